@@ -3,6 +3,9 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 
 public class MazeApp {
+    // Grid berupa array primitif (MazeGrid), jadi batas ini tidak lagi dibatasi memori Cell
+    private static final int MAX_SIZE = 5000;
+
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Weighted Maze Solver");
@@ -14,7 +17,10 @@ public class MazeApp {
             statusLabel.setHorizontalAlignment(SwingConstants.CENTER);
 
             MazePanel mazePanel = new MazePanel(statusLabel);
-            frame.add(mazePanel, BorderLayout.CENTER);
+            // Maze kecil tampil utuh; maze besar (sampai 5000x5000) di-scroll
+            JScrollPane mazeScroll = new JScrollPane(mazePanel);
+            mazeScroll.setBorder(null);
+            frame.add(mazeScroll, BorderLayout.CENTER);
 
             JPanel sidePanel = new JPanel();
             sidePanel.setLayout(new BoxLayout(sidePanel, BoxLayout.Y_AXIS));
@@ -35,16 +41,16 @@ public class MazeApp {
                 JPanel p = new JPanel(new GridLayout(2, 2, 5, 5));
                 JTextField rowField = new JTextField("25");
                 JTextField colField = new JTextField("35");
-                p.add(new JLabel("Rows (10-40):")); p.add(rowField);
-                p.add(new JLabel("Cols (10-50):")); p.add(colField);
+                p.add(new JLabel("Rows (5-" + MAX_SIZE + "):")); p.add(rowField);
+                p.add(new JLabel("Cols (5-" + MAX_SIZE + "):")); p.add(colField);
 
                 int result = JOptionPane.showConfirmDialog(frame, p, "Settings", JOptionPane.OK_CANCEL_OPTION);
                 if (result == JOptionPane.OK_OPTION) {
                     try {
                         int r = Integer.parseInt(rowField.getText());
                         int c = Integer.parseInt(colField.getText());
-                        if (r < 5 || r > 50 || c < 5 || c > 60) {
-                            JOptionPane.showMessageDialog(frame, "Size too big/small! Keep Rows<50, Cols<60.");
+                        if (r < 5 || r > MAX_SIZE || c < 5 || c > MAX_SIZE) {
+                            JOptionPane.showMessageDialog(frame, "Size too big/small! Keep Rows and Cols between 5 and " + MAX_SIZE + ".");
                         } else {
                             mazePanel.resizeMaze(r, c);
                             frame.pack(); frame.setLocationRelativeTo(null);
@@ -0,0 +1,96 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Model grid dalam array primitif (struct-of-arrays). Sel diberi id = row * cols + col, jadi
+ * satu sel hanya ~10.4 byte (dinding 1, cost 1, gCost 4, parent 4, tiga bit status) dan
+ * maze 5000x5000 muat di heap default.
+ */
+public class MazeGrid {
+    // Bit dinding, urutannya sama dengan walls[] lama: atas, kanan, bawah, kiri
+    public static final int TOP = 1, RIGHT = 2, BOTTOM = 4, LEFT = 8, ALL_WALLS = 15;
+
+    public static final byte GRASS = 1, MUD = 5, WATER = 10;
+
+    public final int rows, cols, size;
+    public final int start, end;
+
+    public final byte[] walls;
+    public final byte[] cost;
+    public final int[] gCost;
+    public final int[] parent;
+
+    public final BitSet visited;  // sudah digali generator
+    public final BitSet searched; // sudah dijangkau solver
+    public final BitSet path;     // bagian jalur solusi
+
+    public MazeGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.size = rows * cols;
+        this.start = 0;
+        this.end = size - 1;
+        walls = new byte[size];
+        cost = new byte[size];
+        gCost = new int[size];
+        parent = new int[size];
+        // Dialokasikan penuh di awal agar BitSet tidak pernah resize saat dibaca thread paint
+        visited = new BitSet(size);
+        searched = new BitSet(size);
+        path = new BitSet(size);
+        clear();
+    }
+
+    /** Kembali ke kondisi awal generator: semua dinding tertutup, belum digali. */
+    public void clear() {
+        Arrays.fill(walls, (byte) ALL_WALLS);
+        Arrays.fill(cost, GRASS);
+        visited.clear();
+        resetForSolver();
+    }
+
+    public void resetForSolver() {
+        searched.clear();
+        path.clear();
+        Arrays.fill(parent, -1);
+        Arrays.fill(gCost, Integer.MAX_VALUE);
+    }
+
+    public int row(int id) { return id / cols; }
+    public int col(int id) { return id % cols; }
+
+    public boolean hasWall(int id, int wall) { return (walls[id] & wall) != 0; }
+
+    /** Membuka dinding antara dua sel bertetangga (a dan b saling berbatasan). */
+    public void removeWall(int a, int b) {
+        int wall = b == a - cols ? TOP : b == a + 1 ? RIGHT : b == a + cols ? BOTTOM : LEFT;
+        walls[a] &= ~wall;
+        walls[b] &= ~opposite(wall);
+    }
+
+    private static int opposite(int wall) { return wall <= RIGHT ? wall << 2 : wall >> 2; }
+
+    /** Tetangga yang bisa dilalui (tanpa dinding) ditulis ke out, mengembalikan jumlahnya. */
+    public int moves(int id, int[] out) {
+        int r = id / cols, c = id % cols, n = 0, w = walls[id];
+        if ((w & TOP) == 0 && r > 0) out[n++] = id - cols;
+        if ((w & RIGHT) == 0 && c < cols - 1) out[n++] = id + 1;
+        if ((w & BOTTOM) == 0 && r < rows - 1) out[n++] = id + cols;
+        if ((w & LEFT) == 0 && c > 0) out[n++] = id - 1;
+        return n;
+    }
+
+    /** Tetangga yang belum digali generator ditulis ke out, mengembalikan jumlahnya. */
+    public int unvisitedNeighbors(int id, int[] out) {
+        int r = id / cols, c = id % cols, n = 0;
+        if (r > 0 && !visited.get(id - cols)) out[n++] = id - cols;
+        if (r < rows - 1 && !visited.get(id + cols)) out[n++] = id + cols;
+        if (c > 0 && !visited.get(id - 1)) out[n++] = id - 1;
+        if (c < cols - 1 && !visited.get(id + 1)) out[n++] = id + 1;
+        return n;
+    }
+
+    public int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+}
@@ -3,21 +3,36 @@ import java.awt.*;
 import java.util.*;
 import javax.swing.Timer;
 
-public class MazePanel extends JPanel {
+public class MazePanel extends JPanel implements Scrollable {
     // Variabel Ukuran (Tidak final agar bisa diresize)
     private int rows = 25;
     private int cols = 35;
     private final int CELL_SIZE = 25;
+    private static final int MIN_CELL_SIZE = 3;
+    // Di atas ukuran ini (batas lama 50x60) langkah tidak lagi dianimasikan satu per satu
+    private static final int ANIMATE_LIMIT = 50 * 60;
+    private static final Dimension MAX_VIEW = new Dimension(1500, 900);
+    private int cellSize = CELL_SIZE;
     private Sound stepSound;
     private Sound winSound;
-    private Cell[][] grid;
-    private Cell startCell, endCell;
+    private MazeGrid grid;
+    private volatile int head = -1; // sel yang sedang diproses (kotak oranye)
+    private Color searchColor = Color.CYAN;
     private boolean isWorking = false;
+    private volatile boolean ready = false; // S/E baru tampil setelah maze selesai digenerate
+    private final Random rand = new Random();
 
     private JLabel statusLabel;
     private Timer uiTimer;
     private long startTime;
 
+    // --- WARNA & FONT (dibuat sekali, bukan per sel per paint) ---
+    private static final Color COL_MUD = new Color(160, 82, 45), COL_MUD_DOT = new Color(80, 40, 10);
+    private static final Color COL_WATER = new Color(135, 206, 235), COL_WAVE = new Color(0, 80, 200);
+    private static final Color COL_GRASS = new Color(240, 255, 240), COL_UNCARVED = new Color(30, 30, 30);
+    private static final Color COL_PATH = new Color(255, 215, 0), COL_PATH_EDGE = new Color(255, 140, 0);
+    private static final Font FONT_WAVE = new Font("SansSerif", Font.BOLD, 16), FONT_LABEL = new Font("Arial", Font.BOLD, 12);
+
     public MazePanel(JLabel statusLabel) {
         this.statusLabel = statusLabel;
         updatePanelSize();
@@ -43,30 +58,29 @@ public class MazePanel extends JPanel {
     }
 
     private void updatePanelSize() {
-        this.setPreferredSize(new Dimension(cols * CELL_SIZE, rows * CELL_SIZE));
+        // Maze besar: sel diperkecil, sisanya di-scroll
+        cellSize = Math.max(MIN_CELL_SIZE, Math.min(CELL_SIZE, Math.min(MAX_VIEW.width / cols, MAX_VIEW.height / rows)));
+        this.setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
         this.revalidate();
     }
 
+    private boolean isAnimated() { return rows * cols <= ANIMATE_LIMIT; }
+
     public void initGrid() {
-        grid = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                grid[r][c] = new Cell(r, c, CELL_SIZE);
-            }
-        }
+        // Ukuran sama: pakai ulang array yang ada, tidak perlu alokasi ratusan MB lagi
+        if (grid != null && grid.rows == rows && grid.cols == cols) grid.clear();
+        else { grid = null; grid = new MazeGrid(rows, cols); } // grid lama dilepas dulu sebelum alokasi baru
+        head = -1; ready = false;
         repaint();
     }
 
     private void generateTerrain() {
-        Random rand = new Random();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (grid[r][c].visited && !grid[r][c].isStart && !grid[r][c].isEnd) {
-                    int chance = rand.nextInt(100);
-                    if (chance < 10) grid[r][c].cost = 10;      // 10% Water
-                    else if (chance < 30) grid[r][c].cost = 5;  // 20% Mud
-                    else grid[r][c].cost = 1;                   // 70% Grass
-                }
+        for (int id = 0; id < grid.size; id++) {
+            if (grid.visited.get(id) && id != grid.start && id != grid.end) {
+                int chance = rand.nextInt(100);
+                if (chance < 10) grid.cost[id] = MazeGrid.WATER;      // 10% Water
+                else if (chance < 30) grid.cost[id] = MazeGrid.MUD;   // 20% Mud
+                else grid.cost[id] = MazeGrid.GRASS;                  // 70% Grass
             }
         }
         repaint();
@@ -79,7 +93,7 @@ public class MazePanel extends JPanel {
         statusLabel.setText("Generating Maze...");
         new Thread(() -> {
             try {
-                generateMazeRecursiveBacktracker(animate);
+                generateMazeRecursiveBacktracker(animate && isAnimated());
             } catch (Exception e) {
                 e.printStackTrace();
                 SwingUtilities.invokeLater(() -> statusLabel.setText("Error generating maze!"));
@@ -97,79 +111,57 @@ public class MazePanel extends JPanel {
         else if (type.equals("A*")) new Thread(this::solveAStar).start();
     }
 
-    // --- ALGORITMA DIJKSTRA ---
-    private void solveDijkstra() {
-        prepareAlgo("Dijkstra");
-        PriorityQueue<Cell> pq = new PriorityQueue<>(Comparator.comparingInt(c -> c.gCost));
-        startCell.gCost = 0; startCell.fCost = 0;
-        pq.add(startCell);
-        Color algoColor = new Color(255, 140, 0);
+    // --- ALGORITMA DIJKSTRA & A* ---
+    // gCost/parent langsung di array grid; antrian prioritas berisi long (prioritas << 32 | id)
+    private void solveDijkstra() { solveWeighted("Dijkstra", new Color(255, 140, 0), false); }
 
-        while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-            if (current.searched) continue;
-            current.searched = true; current.searchColor = algoColor;
-
-            if (current == endCell) { finishAlgo("Dijkstra", true); return; }
-
-            for (Cell neighbor : getValidMoves(current)) {
-                if (!neighbor.searched) {
-                    int newCost = current.gCost + neighbor.cost;
-                    if (newCost < neighbor.gCost) {
-                        neighbor.gCost = newCost; neighbor.fCost = newCost; neighbor.parent = current;
-                        pq.add(neighbor);
-                    }
-                }
-            }
-            animateStep(current);
-        }
-        finishAlgo("Dijkstra", false);
-    }
+    private void solveAStar() { solveWeighted("A*", new Color(138, 43, 226), true); }
 
-    // --- ALGORITMA A* ---
-    private void solveAStar() {
-        prepareAlgo("A*");
-        PriorityQueue<Cell> pq = new PriorityQueue<>();
-        startCell.gCost = 0;
-        startCell.hCost = Math.abs(startCell.row - endCell.row) + Math.abs(startCell.col - endCell.col);
-        startCell.fCost = startCell.gCost + startCell.hCost;
-        pq.add(startCell);
-        Color algoColor = new Color(138, 43, 226);
+    private void solveWeighted(String name, Color algoColor, boolean heuristic) {
+        prepareAlgo(name, algoColor);
+        MazeGrid m = grid;
+        int[] gCost = m.gCost, parent = m.parent, moves = new int[4];
+        LongHeap pq = new LongHeap();
+        gCost[m.start] = 0;
+        pq.push(heuristic ? m.manhattan(m.start, m.end) : 0, m.start);
 
         while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-            if (current.searched) continue;
-            current.searched = true; current.searchColor = algoColor;
-
-            if (current == endCell) { finishAlgo("A*", true); return; }
-
-            for (Cell neighbor : getValidMoves(current)) {
-                if (!neighbor.searched) {
-                    int tentativeG = current.gCost + neighbor.cost;
-                    if (tentativeG < neighbor.gCost) {
-                        neighbor.gCost = tentativeG;
-                        neighbor.hCost = Math.abs(neighbor.row - endCell.row) + Math.abs(neighbor.col - endCell.col);
-                        neighbor.fCost = neighbor.gCost + neighbor.hCost;
-                        neighbor.parent = current;
-                        pq.add(neighbor);
-                    }
+            int current = pq.popId();
+            if (m.searched.get(current)) continue;
+            m.searched.set(current);
+
+            if (current == m.end) { finishAlgo(name, true); return; }
+
+            int n = m.moves(current, moves);
+            for (int k = 0; k < n; k++) {
+                int neighbor = moves[k];
+                if (m.searched.get(neighbor)) continue;
+                int newCost = gCost[current] + m.cost[neighbor];
+                if (newCost < gCost[neighbor]) {
+                    gCost[neighbor] = newCost; parent[neighbor] = current;
+                    pq.push(heuristic ? newCost + m.manhattan(neighbor, m.end) : newCost, neighbor);
                 }
             }
             animateStep(current);
         }
-        finishAlgo("A*", false);
+        finishAlgo(name, false);
     }
 
     // --- BFS & DFS ---
+    // Setiap sel masuk frontier paling banyak sekali, jadi cukup satu int[] sebagai queue/stack
     private void solveBFS() {
-        prepareAlgo("BFS");
-        Queue<Cell> queue = new LinkedList<>();
-        queue.add(startCell); startCell.searched = true;
-        while(!queue.isEmpty()) {
-            Cell c = queue.poll();
-            if(c == endCell) { finishAlgo("BFS", true); return; }
-            for(Cell n : getValidMoves(c)) {
-                if(!n.searched) { n.searched=true; n.searchColor=Color.CYAN; n.parent=c; queue.add(n); }
+        prepareAlgo("BFS", Color.CYAN);
+        MazeGrid m = grid;
+        int[] queue = new int[m.size], moves = new int[4];
+        int qHead = 0, qTail = 0;
+        queue[qTail++] = m.start; m.searched.set(m.start);
+        while (qHead < qTail) {
+            int c = queue[qHead++];
+            if (c == m.end) { finishAlgo("BFS", true); return; }
+            int n = m.moves(c, moves);
+            for (int k = 0; k < n; k++) {
+                int nb = moves[k];
+                if (!m.searched.get(nb)) { m.searched.set(nb); m.parent[nb] = c; queue[qTail++] = nb; }
             }
             animateStep(c);
         }
@@ -177,15 +169,19 @@ public class MazePanel extends JPanel {
     }
 
     private void solveDFS() {
-        prepareAlgo("DFS");
-        Stack<Cell> stack = new Stack<>();
-        stack.push(startCell); startCell.searched = true;
-        while(!stack.isEmpty()) {
-            Cell c = stack.pop();
-            if(c == endCell) { finishAlgo("DFS", true); return; }
-            ArrayList<Cell> nList = getValidMoves(c); Collections.shuffle(nList);
-            for(Cell n : nList) {
-                if(!n.searched) { n.searched=true; n.searchColor=Color.MAGENTA; n.parent=c; stack.push(n); }
+        prepareAlgo("DFS", Color.MAGENTA);
+        MazeGrid m = grid;
+        int[] stack = new int[m.size], moves = new int[4];
+        int top = 0;
+        stack[top++] = m.start; m.searched.set(m.start);
+        while (top > 0) {
+            int c = stack[--top];
+            if (c == m.end) { finishAlgo("DFS", true); return; }
+            int n = m.moves(c, moves);
+            shuffle(moves, n);
+            for (int k = 0; k < n; k++) {
+                int nb = moves[k];
+                if (!m.searched.get(nb)) { m.searched.set(nb); m.parent[nb] = c; stack[top++] = nb; }
             }
             animateStep(c);
         }
@@ -193,27 +189,30 @@ public class MazePanel extends JPanel {
     }
 
     // --- GENERATOR LOGIC ---
+    // parent[] dipakai sebagai stack backtrack, jadi generator tidak butuh memori tambahan
     private void generateMazeRecursiveBacktracker(boolean animate) {
         isWorking = true;
-        Stack<Cell> stack = new Stack<>();
-        Cell current = grid[0][0];
-        current.visited = true;
-        stack.push(current);
-
-        while (!stack.isEmpty()) {
-            Cell next = getUnvisitedNeighbor(stack.peek());
-            if (next != null) {
-                next.visited = true;
-                removeWalls(stack.peek(), next);
-                stack.push(next);
+        MazeGrid m = grid;
+        int[] options = new int[4];
+        int current = m.start;
+        m.visited.set(current);
+
+        while (current != -1) {
+            int n = m.unvisitedNeighbors(current, options);
+            if (n > 0) {
+                int next = options[rand.nextInt(n)];
+                m.visited.set(next);
+                m.removeWall(current, next);
+                m.parent[next] = current;
+                current = next;
                 if (animate) animateStep(next);
             } else {
-                stack.pop();
-                if (animate) animateStep(current);
+                current = m.parent[current];
+                if (animate && current != -1) animateStep(current);
             }
         }
-        startCell = grid[0][0]; endCell = grid[rows-1][cols-1];
-        startCell.isStart = true; endCell.isEnd = true;
+        m.resetForSolver();
+        ready = true;
         generateTerrain();
         isWorking = false;
         SwingUtilities.invokeLater(() -> statusLabel.setText("Maze Ready!"));
@@ -221,7 +220,10 @@ public class MazePanel extends JPanel {
     }
 
     // --- HELPERS ---
-    private void prepareAlgo(String name) { isWorking=true; SwingUtilities.invokeLater(() -> startLiveTimer(name)); }
+    private void prepareAlgo(String name, Color color) {
+        isWorking = true; searchColor = color;
+        SwingUtilities.invokeLater(() -> startLiveTimer(name));
+    }
 
     private void finishAlgo(String name, boolean found) {
         stopLiveTimer(); isWorking = false;
@@ -230,17 +232,20 @@ public class MazePanel extends JPanel {
             // MAINKAN SUARA MENANG
             if (winSound != null) winSound.play();
 
-            int calcCost = 0; Cell t = endCell; while(t!=null){ calcCost+=t.cost; t=t.parent; }
+            int calcCost = 0; for (int t = grid.end; t != -1; t = grid.parent[t]) calcCost += grid.cost[t];
             final int finalCost = calcCost;
             reconstructPath();
             SwingUtilities.invokeLater(() -> statusLabel.setText("<html><center><b>"+name+" Done!</b><br/>Time: "+time+"ms Cost: "+finalCost+"</center></html>"));
         } else {
             SwingUtilities.invokeLater(() -> statusLabel.setText(name + " Failed!"));
         }
+        repaint();
     }
 
-    private void animateStep(Cell c) {
-        c.isHead = true;
+    // Maze besar tidak dianimasikan per langkah; live timer yang me-repaint progresnya
+    private void animateStep(int id) {
+        if (!isAnimated()) return;
+        head = id;
         repaint();
 
         // MAINKAN SUARA STEP
@@ -248,56 +253,171 @@ public class MazePanel extends JPanel {
         if (stepSound != null) stepSound.play();
 
         sleep(60);
-        c.isHead = false;
+        head = -1;
     }
     private void sleep(int m) { try { Thread.sleep(m); } catch (Exception e){} }
-    private void reconstructPath() { Cell t=endCell; while(t!=null) { t.isPath=true; t=t.parent; repaint(); sleep(15); } }
+    private void reconstructPath() {
+        boolean animate = isAnimated();
+        for (int t = grid.end; t != -1; t = grid.parent[t]) { grid.path.set(t); if (animate) { repaint(); sleep(15); } }
+    }
+
+    private void shuffle(int[] a, int len) {
+        for (int i = len - 1; i > 0; i--) { int j = rand.nextInt(i + 1); int t = a[i]; a[i] = a[j]; a[j] = t; }
+    }
 
     private void startLiveTimer(String n) {
         startTime = System.currentTimeMillis(); if(uiTimer!=null) uiTimer.stop();
-        uiTimer = new Timer(50, e -> statusLabel.setText("<html><center>"+n+" Running...<br/>"+(System.currentTimeMillis()-startTime)+" ms</center></html>"));
+        uiTimer = new Timer(50, e -> {
+            statusLabel.setText("<html><center>"+n+" Running...<br/>"+(System.currentTimeMillis()-startTime)+" ms</center></html>");
+            if (!isAnimated()) repaint();
+        });
         uiTimer.start();
     }
     private void stopLiveTimer() { if(uiTimer!=null) uiTimer.stop(); }
 
-    public void resetSolverVisuals() { if(startCell==null)return; for(int r=0;r<rows;r++)for(int c=0;c<cols;c++)grid[r][c].resetForSolver(); repaint(); }
+    public void resetSolverVisuals() { if(grid==null)return; grid.resetForSolver(); head = -1; repaint(); }
 
-    private void removeWalls(Cell a, Cell b) {
-        int dx = a.col - b.col; int dy = a.row - b.row;
-        if (dx == 1) { a.walls[3] = false; b.walls[1] = false; }
-        if (dx == -1) { a.walls[1] = false; b.walls[3] = false; }
-        if (dy == 1) { a.walls[0] = false; b.walls[2] = false; }
-        if (dy == -1) { a.walls[2] = false; b.walls[0] = false; }
-    }
-    private Cell getUnvisitedNeighbor(Cell c) {
-        ArrayList<Cell> n = new ArrayList<>();
-        int r = c.row; int col = c.col;
-        if (r>0 && !grid[r-1][col].visited) n.add(grid[r-1][col]);
-        if (r<rows-1 && !grid[r+1][col].visited) n.add(grid[r+1][col]);
-        if (col>0 && !grid[r][col-1].visited) n.add(grid[r][col-1]);
-        if (col<cols-1 && !grid[r][col+1].visited) n.add(grid[r][col+1]);
-        if (n.isEmpty()) return null;
-        return n.get(new Random().nextInt(n.size()));
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (grid == null) return;
+        Graphics2D g2 = (Graphics2D) g;
+        // Haluskan gambar lingkaran/garis
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // Hanya sel yang terlihat di area clip (viewport scroll) yang digambar
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        int s = cellSize;
+        int r0 = Math.max(0, clip.y / s), r1 = Math.min(grid.rows - 1, (clip.y + clip.height) / s);
+        int c0 = Math.max(0, clip.x / s), c1 = Math.min(grid.cols - 1, (clip.x + clip.width) / s);
+        for (int r = r0; r <= r1; r++)
+            for (int c = c0; c <= c1; c++) drawCell(g2, r * grid.cols + c, c * s, r * s, s);
+
+        // Dinding digambar setelah semua sel agar tidak tertimpa sel tetangga
+        g2.setColor(Color.BLACK);
+        g2.setStroke(new BasicStroke(Math.max(1, s / 8))); // Tebal 3px pada ukuran normal
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int id = r * grid.cols + c;
+                if (!grid.visited.get(id)) continue;
+                int x = c * s, y = r * s;
+                if (grid.hasWall(id, MazeGrid.TOP)) g2.drawLine(x, y, x + s, y);
+                if (grid.hasWall(id, MazeGrid.RIGHT)) g2.drawLine(x + s, y, x + s, y + s);
+                if (grid.hasWall(id, MazeGrid.BOTTOM)) g2.drawLine(x + s, y + s, x, y + s);
+                if (grid.hasWall(id, MazeGrid.LEFT)) g2.drawLine(x, y + s, x, y);
+            }
+        }
+        g2.setStroke(new BasicStroke(1)); // Reset tebal garis
     }
-    private ArrayList<Cell> getValidMoves(Cell c) {
-        ArrayList<Cell> m = new ArrayList<>();
-        int r = c.row; int col = c.col;
-        if (!c.walls[0] && r>0) m.add(grid[r-1][col]);
-        if (!c.walls[1] && col<cols-1) m.add(grid[r][col+1]);
-        if (!c.walls[2] && r<rows-1) m.add(grid[r+1][col]);
-        if (!c.walls[3] && col>0) m.add(grid[r][col-1]);
-        return m;
+
+    private void drawCell(Graphics2D g, int id, int x, int y, int size) {
+        boolean detail = size >= 12; // hiasan terrain & label hanya saat sel cukup besar
+
+        // --- LAYER 1: TERRAIN (DIGAMBAR MANUAL AGAR TIDAK KOTAK-KOTAK) ---
+        if (!grid.visited.get(id)) { // --- LAYER 2: MASKING (HITAM JIKA BELUM JADI MAZE) ---
+            g.setColor(COL_UNCARVED);
+            g.fillRect(x, y, size, size);
+        } else if (grid.cost[id] == MazeGrid.MUD) { // MUD (LUMPUR)
+            g.setColor(COL_MUD); // Coklat Background
+            g.fillRect(x, y, size, size);
+            if (detail) {
+                g.setColor(COL_MUD_DOT); // Coklat Tua (Titik)
+                g.fillOval(x + 4, y + 4, 4, 4);
+                g.fillOval(x + size - 8, y + 6, 3, 3);
+                g.fillOval(x + 6, y + size - 8, 3, 3);
+            }
+        } else if (grid.cost[id] == MazeGrid.WATER) { // WATER (AIR)
+            g.setColor(COL_WATER); // Biru Langit
+            g.fillRect(x, y, size, size);
+            if (detail) {
+                g.setColor(COL_WAVE); // Biru Laut (Gelombang)
+                g.setFont(FONT_WAVE);
+                g.drawString("~", x + (size/2) - 5, y + (size/2) + 5);
+            }
+        } else { // GRASS (RUMPUT)
+            g.setColor(COL_GRASS); // Hijau Muda Bersih
+            g.fillRect(x, y, size, size);
+        }
+
+        // --- LAYER 3: STATUS & ALGORITMA ---
+        if (id == head) {
+            g.setColor(Color.ORANGE);
+            g.fillRect(x, y, size, size);
+            g.setColor(Color.BLACK);
+            if (detail) g.drawRect(x+4, y+4, size-8, size-8);
+        } else if (ready && id == grid.start) {
+            g.setColor(Color.GREEN);
+            g.fillRect(x, y, size, size);
+            g.setColor(Color.BLACK);
+            g.setFont(FONT_LABEL);
+            if (detail) g.drawString("S", x + 8, y + size - 6);
+        } else if (ready && id == grid.end) {
+            g.setColor(Color.RED);
+            g.fillRect(x, y, size, size);
+            g.setColor(Color.WHITE);
+            g.setFont(FONT_LABEL);
+            if (detail) g.drawString("E", x + 8, y + size - 6);
+        } else if (grid.path.get(id)) {
+            g.setColor(COL_PATH); // Emas
+            g.fillRect(x, y, size, size);
+            if (detail) {
+                g.setColor(COL_PATH_EDGE); // Garis Tepi Emas Tua
+                g.setStroke(new BasicStroke(2));
+                g.drawRect(x+5, y+5, size-10, size-10);
+                g.setStroke(new BasicStroke(1));
+            }
+        } else if (grid.searched.get(id)) {
+            Color base = searchColor;
+            g.setColor(new Color(base.getRed(), base.getGreen(), base.getBlue(), 150));
+            g.fillRect(x, y, size, size);
+        }
     }
 
+    // --- SCROLLABLE: maze kecil tampil utuh seperti dulu, maze besar di-scroll ---
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        if (grid != null) {
-            for (int r = 0; r < rows; r++) {
-                for (int c = 0; c < cols; c++) {
-                    if (grid[r][c] != null) grid[r][c].draw(g);
-                }
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension d = getPreferredSize();
+        return new Dimension(Math.min(d.width, MAX_VIEW.width), Math.min(d.height, MAX_VIEW.height));
+    }
+    @Override public int getScrollableUnitIncrement(Rectangle r, int orientation, int direction) { return cellSize; }
+    @Override
+    public int getScrollableBlockIncrement(Rectangle r, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? r.height : r.width;
+    }
+    @Override public boolean getScrollableTracksViewportWidth() { return false; }
+    @Override public boolean getScrollableTracksViewportHeight() { return false; }
+
+    // Min-heap long tanpa objek per entri; entri basi dilewati lewat bit searched (lazy deletion)
+    private static final class LongHeap {
+        private long[] heap = new long[1024];
+        private int size;
+
+        boolean isEmpty() { return size == 0; }
+
+        void push(int priority, int id) {
+            if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+            long v = ((long) priority << 32) | id;
+            int i = size++;
+            while (i > 0) {
+                int p = (i - 1) >>> 1;
+                if (heap[p] <= v) break;
+                heap[i] = heap[p]; i = p;
+            }
+            heap[i] = v;
+        }
+
+        int popId() {
+            long top = heap[0], v = heap[--size];
+            int i = 0, half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (v <= heap[child]) break;
+                heap[i] = heap[child]; i = child;
             }
+            heap[i] = v;
+            return (int) top;
         }
     }
-}
\ No newline at end of file
+}
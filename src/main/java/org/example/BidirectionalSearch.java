@@ -0,0 +1,130 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Pencarian dua arah untuk {@link HexSolver}: satu frontier dari start, satu dari end,
+ * bertemu di tengah. Biaya berarah (masuk ke sel v = cost(v)), jadi sisi mundur
+ * merelaksasi predecessor v dari u dengan biaya cost(u).
+ * <p>
+ * Bi-A* memakai potensial rata-rata p(v) = (hEnd(v) - hStart(v)) / 2 untuk maju dan -p(v)
+ * untuk mundur, sehingga kedua arah berjalan di graf biaya tereduksi yang sama dan
+ * kriteria berhenti Dijkstra dua arah tetap berlaku: berhenti saat topF + topB >= mu,
+ * dengan mu biaya jalur terbaik lewat sel yang sudah dilabeli kedua sisi. Kunci disimpan
+ * dikali 2 supaya potensial tetap integer. Bi-Dijkstra adalah kasus p = 0.
+ */
+final class BidirectionalSearch {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private BidirectionalSearch() {}
+
+    // --- BIDIRECTIONAL BFS ---
+    // Ekspansi per layer penuh pada frontier yang lebih kecil; setelah layer selesai,
+    // pertemuan terpendek dalam jumlah langkah sudah pasti ditemukan.
+    static SolveResult bfs(HexBoard board, String algorithm, int start, int end, SearchTrace trace, long t0) {
+        HexGrid grid = board.grid;
+        int n = grid.size;
+        int[] distF = new int[n], distB = new int[n], parentF = new int[n], parentB = new int[n];
+        int[] qF = new int[n], qB = new int[n], nbr = new int[HexGrid.MAX_DEGREE];
+        Arrays.fill(distF, -1); Arrays.fill(distB, -1);
+        int hF = 0, tF = 0, hB = 0, tB = 0, expanded = 0;
+        distF[start] = 0; parentF[start] = start; qF[tF++] = start;
+        distB[end] = 0; parentB[end] = end; qB[tB++] = end;
+        int meet = start == end ? start : -1, best = meet >= 0 ? 0 : INF;
+
+        while (meet < 0 && hF < tF && hB < tB) {
+            boolean fwd = (tF - hF) <= (tB - hB);
+            int[] q = fwd ? qF : qB, dist = fwd ? distF : distB, other = fwd ? distB : distF, parent = fwd ? parentF : parentB;
+            int head = fwd ? hF : hB, tail = fwd ? tF : tB, layerEnd = tail;
+            while (head < layerEnd) {
+                int u = q[head++];
+                expanded++; trace.add(fwd ? SearchTrace.EXPAND : SearchTrace.EXPAND_BACK, u);
+                int deg = grid.neighbors(u, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int v = nbr[k];
+                    if (board.isWall(v)) continue;
+                    if (dist[v] == -1) {
+                        dist[v] = dist[u] + 1; parent[v] = u; q[tail++] = v;
+                        trace.add(fwd ? SearchTrace.DISCOVER : SearchTrace.DISCOVER_BACK, v);
+                    }
+                    if (other[v] != -1 && dist[v] + other[v] < best) { best = dist[v] + other[v]; meet = v; }
+                }
+            }
+            if (fwd) { hF = head; tF = tail; } else { hB = head; tB = tail; }
+        }
+        return result(board, algorithm, start, end, meet, parentF, parentB, expanded, System.nanoTime() - t0, trace);
+    }
+
+    // --- BIDIRECTIONAL DIJKSTRA & A* ---
+    static SolveResult weighted(HexBoard board, String algorithm, int start, int end, boolean aStar, SearchTrace trace, long t0) {
+        HexGrid grid = board.grid;
+        int n = grid.size;
+        int[] gF = new int[n], gB = new int[n], parentF = new int[n], parentB = new int[n], nbr = new int[HexGrid.MAX_DEGREE];
+        boolean[] closedF = new boolean[n], closedB = new boolean[n];
+        Arrays.fill(gF, INF); Arrays.fill(gB, INF);
+        IndexedHeap openF = new IndexedHeap(n), openB = new IndexedHeap(n);
+        gF[start] = 0; parentF[start] = start; openF.update(start, potential(grid, start, end, start, aStar));
+        gB[end] = 0; parentB[end] = end; openB.update(end, -potential(grid, start, end, end, aStar));
+        long mu = start == end ? 0 : INF;
+        int meet = start == end ? start : -1, expanded = 0;
+
+        while (!openF.isEmpty() && !openB.isEmpty()) {
+            long topF = openF.peekKey(), topB = openB.peekKey();
+            if (topF + topB >= 2 * mu) break;
+            boolean fwd = openF.size() <= openB.size();
+            if (fwd) {
+                int u = openF.pop(); closedF[u] = true;
+                expanded++; trace.add(SearchTrace.EXPAND, u);
+                int deg = grid.neighbors(u, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int v = nbr[k];
+                    if (board.isWall(v) || closedF[v]) continue;
+                    int ng = gF[u] + board.cost(v);
+                    if (ng >= gF[v]) continue;
+                    gF[v] = ng; parentF[v] = u;
+                    openF.update(v, 2L * ng + potential(grid, start, end, v, aStar));
+                    trace.add(SearchTrace.DISCOVER, v);
+                    if (gB[v] != INF && (long) ng + gB[v] < mu) { mu = (long) ng + gB[v]; meet = v; }
+                }
+            } else {
+                int u = openB.pop(); closedB[u] = true;
+                expanded++; trace.add(SearchTrace.EXPAND_BACK, u);
+                int deg = grid.neighbors(u, nbr), stepCost = board.cost(u);
+                for (int k = 0; k < deg; k++) {
+                    int v = nbr[k];
+                    if (board.isWall(v) || closedB[v]) continue;
+                    int ng = gB[u] + stepCost;
+                    if (ng >= gB[v]) continue;
+                    gB[v] = ng; parentB[v] = u;
+                    openB.update(v, 2L * ng - potential(grid, start, end, v, aStar));
+                    trace.add(SearchTrace.DISCOVER_BACK, v);
+                    if (gF[v] != INF && (long) gF[v] + ng < mu) { mu = (long) gF[v] + ng; meet = v; }
+                }
+            }
+        }
+        return result(board, algorithm, start, end, meet, parentF, parentB, expanded, System.nanoTime() - t0, trace);
+    }
+
+    // 2 * p(v) = hEnd(v) - hStart(v); jarak hex * biaya minimum konsisten di kedua arah
+    private static long potential(HexGrid grid, int start, int end, int v, boolean aStar) {
+        if (!aStar) return 0;
+        return (long) (grid.hexDistance(v, end) - grid.hexDistance(start, v)) * HexBoard.MIN_COST;
+    }
+
+    // Jalur = rantai parentF dari start ke meet + rantai parentB dari meet ke end
+    private static SolveResult result(HexBoard board, String algorithm, int start, int end, int meet, int[] parentF, int[] parentB, int expanded, long nanos, SearchTrace trace) {
+        if (meet < 0) return new SolveResult(algorithm, new int[0], 0, expanded, nanos, trace);
+        int lenF = 0, lenB = 0;
+        for (int v = meet; v != start; v = parentF[v]) lenF++;
+        for (int v = meet; v != end; v = parentB[v]) lenB++;
+        int[] path = new int[lenF + lenB + 1];
+        int i = lenF;
+        for (int v = meet; ; v = parentF[v]) { path[i--] = v; if (v == start) break; }
+        i = lenF;
+        for (int v = meet; v != end; ) { v = parentB[v]; path[++i] = v; }
+        int cost = 0;
+        for (int v : path) cost += board.cost(v);
+        return new SolveResult(algorithm, path, cost, expanded, nanos, trace);
+    }
+}
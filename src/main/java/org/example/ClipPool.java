@@ -0,0 +1,78 @@
+package org.example;
+
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Efek suara yang didekode sekali lalu diputar dari sejumlah kecil {@link Clip} yang dipakai
+ * ulang. Dekode, pembukaan line dan pemutaran berjalan di satu thread daemon, jadi EDT tidak
+ * pernah tertahan dan jumlah line mixer yang terbuka tetap {@code voices}. Bila resource tidak
+ * ada atau perangkat audio tidak tersedia, {@link #play()} diam saja.
+ */
+final class ClipPool implements AutoCloseable {
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "clip-pool");
+        t.setDaemon(true);
+        return t;
+    });
+    private Clip[] clips = new Clip[0]; // hanya disentuh di thread worker
+    private int next;
+
+    ClipPool(String resource, int voices) {
+        worker.execute(() -> load(resource, voices));
+    }
+
+    /** Memutar satu voice; bila semua sedang berbunyi, voice tertua diulang dari awal. */
+    void play() {
+        try {
+            worker.execute(() -> {
+                int n = clips.length;
+                if (n == 0) return;
+                int pick = next; // semua sibuk: voice tertua (giliran berikutnya) diulang
+                for (int i = 0; i < n; i++) if (!clips[(next + i) % n].isRunning()) { pick = (next + i) % n; break; }
+                Clip clip = clips[pick];
+                next = (pick + 1) % n;
+                clip.stop(); clip.setFramePosition(0); clip.start();
+            });
+        } catch (RejectedExecutionException ignored) { /* sudah ditutup */ }
+    }
+
+    @Override
+    public void close() {
+        try {
+            worker.execute(() -> { for (Clip c : clips) c.close(); clips = new Clip[0]; });
+        } catch (RejectedExecutionException ignored) { return; }
+        worker.shutdown();
+    }
+
+    private void load(String resource, int voices) {
+        InputStream raw = ClipPool.class.getResourceAsStream(resource);
+        if (raw == null) return;
+        try (AudioInputStream in = AudioSystem.getAudioInputStream(new BufferedInputStream(raw))) {
+            AudioFormat format = in.getFormat();
+            ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            for (int n; (n = in.read(buf)) > 0; ) pcm.write(buf, 0, n);
+            byte[] data = pcm.toByteArray();
+            Clip[] opened = new Clip[voices];
+            int count = 0;
+            try {
+                for (; count < voices; count++) {
+                    opened[count] = AudioSystem.getClip();
+                    opened[count].open(format, data, 0, data.length);
+                }
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                if (count < voices && opened[count] != null) opened[count].close(); // voice yang gagal dibuka
+            }
+            clips = Arrays.copyOf(opened, count);
+        } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException | SecurityException e) { /* Silent */ }
+    }
+}
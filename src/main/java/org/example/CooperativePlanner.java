@@ -0,0 +1,200 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Banyak pawn sekaligus dengan Windowed Hierarchical Cooperative A* (WHCA*). Setiap agen
+ * merencanakan {@code window} langkah di ruang-waktu (aksi: tunggu atau pindah ke tetangga)
+ * dengan heuristik jarak sejati ke goal dari {@link DistanceField}, sambil menghindari sel
+ * dan pertukaran posisi yang sudah direservasi agen lain di tabel ruang-waktu.
+ * <p>
+ * Reservasi tidak pernah dihapus: entri (t, sel) -> agen hanya berlaku selama rencana agen
+ * itu saat ini memang menempati sel tersebut pada waktu t. Setelah rencananya habis agen
+ * tetap menahan sel terakhirnya ({@code parkedAt}) sampai merencanakan ulang, jadi menunggu
+ * di tempat selalu aman dan tidak ada agen yang terpaksa keluar dari rencana. Agen merencanakan ulang setiap
+ * setengah window (masih dalam budget per frame) dan wajib merencanakan ulang saat
+ * rencananya habis. Agen yang tiba di goal keluar dari board.
+ */
+final class CooperativePlanner {
+
+    public static final int DEFAULT_WINDOW = 16;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final HexBoard board;
+    private final HexGrid grid;
+    private final int window, agents;
+    final int[] pos, goal;
+    private final boolean[] arrived;
+    private final int[] plan, planStart, planLen;
+    private final DistanceField[] fields;
+    private final SpaceTimeTable reservations;
+    private final int[] parkedAt; // agen yang menahan sel setelah rencananya habis, -1 jika kosong
+    private int time, live, cursor;
+    private long totalCost, planNanos;
+    private int replans;
+
+    // Workspace pencarian ruang-waktu, dipakai ulang antar agen
+    private final int maxNodes;
+    private final int[] nodeCell, nodeDt, nodeG, nodeParent;
+    private final SpaceTimeTable nodeIndex;
+    private final IndexedHeap open;
+    private final int[] nbr = new int[HexGrid.MAX_DEGREE];
+
+    CooperativePlanner(HexBoard board, int[] starts, int[] goals, int window) {
+        if (starts.length != goals.length) throw new IllegalArgumentException("starts and goals differ in length");
+        if (window < 2) throw new IllegalArgumentException("Window must be at least 2: " + window);
+        this.board = board; this.grid = board.grid; this.window = window; this.agents = starts.length;
+        pos = starts.clone(); goal = goals.clone();
+        arrived = new boolean[agents];
+        plan = new int[agents * (window + 1)]; planStart = new int[agents]; planLen = new int[agents];
+        fields = new DistanceField[agents];
+        Map<Integer, DistanceField> byGoal = new HashMap<>();
+        for (int a = 0; a < agents; a++) {
+            int g = goals[a];
+            fields[a] = g == board.end ? board.distanceField() : byGoal.computeIfAbsent(g, t -> new DistanceField(board, t));
+            if (pos[a] == goal[a]) arrived[a] = true; else live++;
+        }
+        reservations = new SpaceTimeTable(agents * (window + 1));
+        parkedAt = new int[grid.size];
+        Arrays.fill(parkedAt, -1);
+        for (int a = 0; a < agents; a++) if (!arrived[a]) parkedAt[pos[a]] = a;
+        maxNodes = (window + 1) * (3 * window * (window + 1) + 1);
+        nodeCell = new int[maxNodes]; nodeDt = new int[maxNodes]; nodeG = new int[maxNodes]; nodeParent = new int[maxNodes];
+        nodeIndex = new SpaceTimeTable(maxNodes);
+        open = new IndexedHeap(maxNodes);
+    }
+
+    /** Semua agen menuju end maze. */
+    CooperativePlanner(HexBoard board, int[] starts, int window) { this(board, starts, fill(starts.length, board.end), window); }
+
+    private static int[] fill(int n, int value) { int[] a = new int[n]; Arrays.fill(a, value); return a; }
+
+    /** Sel terbuka acak yang berbeda-beda, selain start/end, sebagai posisi awal agen. */
+    static int[] spawnCells(HexBoard board, int count, Random rand) {
+        int[] cells = new int[count];
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            int id;
+            do id = rand.nextInt(board.grid.size); while (board.isWall(id) || id == board.end || !used.add(id));
+            cells[i] = id;
+        }
+        return cells;
+    }
+
+    int agentCount() { return agents; }
+    int liveCount() { return live; }
+    boolean isArrived(int a) { return arrived[a]; }
+    int time() { return time; }
+    long totalCost() { return totalCost; }
+    long planNanos() { return planNanos; }
+    int replans() { return replans; }
+
+    /**
+     * Maju satu langkah waktu. Agen yang sudah lewat setengah window (atau rencananya habis)
+     * direncanakan ulang bergiliran sampai budget habis, minimal satu per langkah; agen yang
+     * belum kebagian tetap aman karena rencananya atau sel parkirnya masih direservasi.
+     * Mengembalikan false bila semua agen sudah tiba.
+     */
+    boolean step(long budgetNanos) {
+        if (live == 0) return false;
+        long t0 = System.nanoTime(), deadline = t0 + budgetNanos;
+        int processed = 0;
+        boolean planned = false;
+        for (; processed < agents && (!planned || System.nanoTime() < deadline); processed++) {
+            int a = (cursor + processed) % agents;
+            if (!arrived[a] && time - planStart[a] >= Math.max(1, Math.min(window / 2, planLen[a] - 1))) { replan(a); planned = true; }
+        }
+        cursor = (cursor + processed) % agents;
+        planNanos += System.nanoTime() - t0;
+
+        time++;
+        for (int a = 0; a < agents; a++) {
+            if (arrived[a]) continue;
+            int next = planCell(a, time);
+            if (next < 0) continue; // parkir sampai direncanakan ulang
+            if (next != pos[a]) totalCost += board.cost(next);
+            pos[a] = next;
+            if (next == goal[a]) { arrived[a] = true; live--; }
+        }
+        if (reservations.size() > 4 * agents * (window + 1)) rebuildReservations(); // buang entri basi
+        return live > 0;
+    }
+
+    /** Sel agen pada waktu t menurut rencananya, atau -1 di luar rencana. */
+    int planCell(int a, int t) {
+        int i = t - planStart[a];
+        return i < 0 || i >= planLen[a] ? -1 : plan[a * (window + 1) + i];
+    }
+
+    // Agen lain yang rencananya menempati sel pada waktu t, atau -1
+    private int occupant(int t, int cell, int self) {
+        int b = reservations.get((long) t * grid.size + cell);
+        if (b != SpaceTimeTable.MISSING && b != self && !arrived[b] && planCell(b, t) == cell) return b;
+        b = parkedAt[cell];
+        return b >= 0 && b != self && !arrived[b] && t >= planStart[b] + planLen[b] ? b : -1;
+    }
+
+    private void rebuildReservations() {
+        reservations.clear();
+        for (int a = 0; a < agents; a++) {
+            if (arrived[a]) continue;
+            for (int t = Math.max(time, planStart[a]); t < planStart[a] + planLen[a]; t++) reservations.put((long) t * grid.size + planCell(a, t), a);
+        }
+    }
+
+    // --- SPACE-TIME A* ---
+    private void replan(int a) {
+        replans++;
+        DistanceField field = fields[a];
+        int from = pos[a], target = goal[a];
+        open.clear(); nodeIndex.clear();
+        int nodes = 0;
+        nodeCell[0] = from; nodeDt[0] = 0; nodeG[0] = 0; nodeParent[0] = -1; nodes++;
+        nodeIndex.put(from, 0);
+        open.update(0, priority(0, field));
+        int best = 0;
+
+        while (!open.isEmpty()) {
+            int n = open.pop();
+            int cell = nodeCell[n], dt = nodeDt[n];
+            if (dt > nodeDt[best]) best = n;
+            if (cell == target || dt == window) { best = n; break; }
+            int t = time + dt;
+            int deg = grid.neighbors(cell, nbr);
+            for (int k = -1; k < deg; k++) {
+                int v = k < 0 ? cell : nbr[k]; // k = -1: tunggu di tempat
+                if (board.isWall(v) || field.distance(v) == DistanceField.UNREACHABLE) continue;
+                if (occupant(t + 1, v, a) >= 0) continue;
+                if (v != cell) {
+                    int b = occupant(t, v, a); // tukar posisi dengan b di sisi yang sama
+                    if (b >= 0 && planCell(b, t + 1) == cell) continue;
+                }
+                int ng = nodeG[n] + (v == cell ? HexBoard.MIN_COST : board.cost(v));
+                long key = (long) (dt + 1) * grid.size + v;
+                int m = nodeIndex.get(key);
+                if (m == SpaceTimeTable.MISSING) {
+                    if (nodes == maxNodes) continue;
+                    m = nodes++;
+                    nodeCell[m] = v; nodeDt[m] = dt + 1; nodeG[m] = INF;
+                    nodeIndex.put(key, m);
+                }
+                if (ng >= nodeG[m]) continue;
+                nodeG[m] = ng; nodeParent[m] = n;
+                open.update(m, priority(m, field));
+            }
+        }
+
+        int len = nodeDt[best] + 1, base = a * (window + 1);
+        int oldLast = planLen[a] > 0 ? plan[base + planLen[a] - 1] : pos[a];
+        if (parkedAt[oldLast] == a) parkedAt[oldLast] = -1;
+        for (int n = best, i = len - 1; i >= 0; n = nodeParent[n], i--) plan[base + i] = nodeCell[n];
+        planStart[a] = time; planLen[a] = len;
+        if (plan[base + len - 1] != target) parkedAt[plan[base + len - 1]] = a;
+        for (int i = 1; i < len; i++) reservations.put((long) (time + i) * grid.size + plan[base + i], a);
+    }
+
+    // f = g + h, seri dipecah ke node yang lebih dalam di window
+    private long priority(int n, DistanceField field) {
+        return ((long) nodeG[n] + field.distance(nodeCell[n])) * (window + 1) + (window - nodeDt[n]);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Jarak one-to-all ke satu sel target, dihitung sekali dengan Dijkstra mundur lalu
+ * disimpan per maze (lihat {@link HexBoard#distanceField()}). Biaya berarah sama seperti
+ * solver lain: dist[u] = min over tetangga v dari cost(v) + dist[v], dengan dist[target] = 0.
+ * Jalur optimal dari start mana pun dibaca ulang dengan mengikuti gradien dist dalam
+ * O(panjang jalur), tanpa pencarian baru.
+ */
+final class DistanceField {
+
+    public static final String ALGORITHM = "Field";
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final HexBoard board;
+    final int target;
+    private final int[] dist;
+    private final int expanded;
+    private final long buildNanos;
+
+    DistanceField(HexBoard board, int target) {
+        long t0 = System.nanoTime();
+        this.board = board; this.target = target;
+        HexGrid grid = board.grid;
+        dist = new int[grid.size];
+        Arrays.fill(dist, UNREACHABLE);
+        boolean[] closed = new boolean[grid.size];
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        IndexedHeap open = new IndexedHeap(grid.size);
+        dist[target] = 0; open.update(target, 0);
+        int count = 0;
+
+        while (!open.isEmpty()) {
+            int v = open.pop();
+            closed[v] = true; count++;
+            int deg = grid.neighbors(v, nbr), stepCost = board.cost(v);
+            for (int k = 0; k < deg; k++) {
+                int u = nbr[k];
+                if (board.isWall(u) || closed[u]) continue;
+                int nd = dist[v] + stepCost;
+                if (nd < dist[u]) { dist[u] = nd; open.update(u, nd); }
+            }
+        }
+        expanded = count;
+        buildNanos = System.nanoTime() - t0;
+    }
+
+    /** Biaya sisa dari sel ke target (tidak termasuk biaya sel itu sendiri), atau UNREACHABLE. */
+    int distance(int id) { return dist[id]; }
+
+    int expanded() { return expanded; }
+    long buildNanos() { return buildNanos; }
+
+    SolveResult query(int from) { return query(from, SearchTrace.disabled(), System.nanoTime()); }
+
+    // Jalan menuruni gradien: setiap langkah pilih tetangga v dengan cost(v) + dist[v] == dist[u]
+    SolveResult query(int from, SearchTrace trace, long t0) {
+        if (board.isWall(from) || dist[from] == UNREACHABLE) return new SolveResult(ALGORITHM, new int[0], 0, 0, System.nanoTime() - t0, trace);
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        int len = 1;
+        for (int u = from; u != target; u = next(u, nbr)) len++;
+        int[] path = new int[len];
+        path[0] = from;
+        for (int i = 1; i < len; i++) {
+            path[i] = next(path[i - 1], nbr);
+            trace.add(SearchTrace.EXPAND, path[i - 1]);
+        }
+        return new SolveResult(ALGORITHM, path, dist[from] + board.cost(from), len, System.nanoTime() - t0, trace);
+    }
+
+    private int next(int u, int[] nbr) {
+        int deg = board.grid.neighbors(u, nbr);
+        for (int k = 0; k < deg; k++) {
+            int v = nbr[k];
+            if (!board.isWall(v) && dist[v] != UNREACHABLE && dist[v] + board.cost(v) == dist[u]) return v;
+        }
+        throw new IllegalStateException("Distance field is stale at cell " + u);
+    }
+}
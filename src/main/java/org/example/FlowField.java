@@ -0,0 +1,113 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Flow field menuju end maze: integration field (biaya sisa ke end, sama seperti
+ * {@link DistanceField}) plus direction field satu byte per sel yang menunjuk tetangga
+ * berikutnya. Agen sebanyak apa pun cukup membaca {@link #next} di sel tempatnya, O(1).
+ * <p>
+ * Berbeda dengan DistanceField yang dibangun ulang per versi terrain, field ini diperbaiki
+ * per wilayah lewat {@link #cellChanged}: bila sel menjadi lebih mahal atau dinding, hanya
+ * subtree sel yang arahnya melewati sel itu yang dikosongkan lalu diisi ulang dari
+ * batasnya; bila lebih murah, perbaikan menyebar dari sel itu selama ada yang membaik.
+ */
+final class FlowField {
+
+    static final byte NONE = -1;
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final HexBoard board;
+    private final HexGrid grid;
+    final int target;
+    private final int[] dist;
+    private final byte[] dir;
+    private final IndexedHeap open;
+    private final int[] nbr = new int[HexGrid.MAX_DEGREE];
+    private int[] region = new int[64];
+
+    FlowField(HexBoard board) {
+        this.board = board; this.grid = board.grid; this.target = board.end;
+        dist = new int[grid.size]; dir = new byte[grid.size];
+        Arrays.fill(dist, UNREACHABLE); Arrays.fill(dir, NONE);
+        open = new IndexedHeap(grid.size);
+        dist[target] = 0; open.update(target, 0);
+        propagate();
+    }
+
+    int distance(int id) { return dist[id]; }
+
+    /** Sel berikutnya menuju end; sel itu sendiri bila sudah di end atau tidak terjangkau. */
+    int next(int id) { byte d = dir[id]; return d == NONE ? id : grid.step(id, d); }
+
+    /**
+     * Dipanggil setelah {@code board.setType(id, ...)}, dengan biaya lama sel itu
+     * ({@link #UNREACHABLE} jika dulunya dinding). Mengembalikan jumlah sel yang dilabeli ulang.
+     */
+    int cellChanged(int id, int oldCost) {
+        if (id == target) return 0;
+        int newCost = board.isWall(id) ? UNREACHABLE : board.cost(id);
+        if (newCost == oldCost) return 0;
+        int touched = 0;
+
+        if (newCost > oldCost) {
+            // Kosongkan subtree: semua sel yang rantai arahnya melewati id
+            int n = 0;
+            region[n++] = id;
+            for (int i = 0; i < n; i++) {
+                int w = region[i];
+                int deg = grid.neighbors(w, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int u = nbr[k];
+                    if (dir[u] == NONE || grid.step(u, dir[u]) != w) continue;
+                    if (n == region.length) region = Arrays.copyOf(region, n * 2);
+                    region[n++] = u;
+                }
+            }
+            for (int i = 0; i < n; i++) { dist[region[i]] = UNREACHABLE; dir[region[i]] = NONE; }
+            // Isi ulang dari batas wilayah: tetangga di luar wilayah yang masih punya jarak
+            for (int i = 0; i < n; i++) {
+                int u = region[i];
+                if (board.isWall(u)) continue;
+                int deg = grid.neighbors(u, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int v = nbr[k];
+                    if (board.isWall(v) || dist[v] == UNREACHABLE) continue;
+                    int nd = dist[v] + board.cost(v);
+                    if (nd < dist[u]) { dist[u] = nd; dir[u] = (byte) grid.direction(u, v); }
+                }
+                if (dist[u] != UNREACHABLE) open.update(u, dist[u]);
+            }
+            touched = n;
+        } else {
+            if (oldCost == UNREACHABLE) { // dinding dibuka: ambil jarak dari tetangga terbaik
+                int deg = grid.neighbors(id, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int v = nbr[k];
+                    if (board.isWall(v) || dist[v] == UNREACHABLE) continue;
+                    int nd = dist[v] + board.cost(v);
+                    if (nd < dist[id]) { dist[id] = nd; dir[id] = (byte) grid.direction(id, v); }
+                }
+            }
+            if (dist[id] != UNREACHABLE) open.update(id, dist[id]);
+        }
+        return touched + propagate();
+    }
+
+    // Dijkstra mundur dari sel-sel di open; hanya menerima perbaikan jarak
+    private int propagate() {
+        int count = 0;
+        while (!open.isEmpty()) {
+            int v = open.pop();
+            count++;
+            int deg = grid.neighbors(v, nbr), stepCost = board.cost(v);
+            for (int k = 0; k < deg; k++) {
+                int u = nbr[k];
+                if (board.isWall(u)) continue;
+                int nd = dist[v] + stepCost;
+                if (nd < dist[u]) { dist[u] = nd; dir[u] = (byte) grid.direction(u, v); open.update(u, nd); }
+            }
+        }
+        return count;
+    }
+}
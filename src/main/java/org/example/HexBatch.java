@@ -0,0 +1,93 @@
+package org.example;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Batch command-line: generate N maze hex dengan seed berurutan dan selesaikan masing-masing
+ * dengan BFS, DFS, Dijkstra dan A* di ForkJoinPool, lalu tulis satu baris CSV per run.
+ * <pre>
+ *   java org.example.HexBatch &lt;mazes&gt; &lt;size&gt; [baseSeed] [out.csv|-] [threads]
+ * </pre>
+ */
+public final class HexBatch {
+
+    static final String CSV_HEADER = "seed,size,algorithm,path_length,cost,expanded,time_ms";
+
+    private HexBatch() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: HexBatch <mazes> <size> [baseSeed] [out.csv|-] [threads]");
+            System.exit(2);
+        }
+        int mazes = Integer.parseInt(args[0]);
+        int size = Integer.parseInt(args[1]);
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        String out = args.length > 3 ? args[3] : "-";
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        long t0 = System.nanoTime();
+        String[] rows = run(mazes, size, baseSeed, threads);
+        try (Writer w = out.equals("-")
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8)) {
+            w.write(CSV_HEADER); w.write('\n');
+            for (String row : rows) w.write(row);
+        }
+        System.err.printf("%d mazes x %d algorithms on %d threads in %.1f s%n",
+                mazes, HexSolver.ALGORITHMS.length, threads, (System.nanoTime() - t0) / 1e9);
+    }
+
+    /** Satu elemen per maze (urut seed), berisi baris CSV untuk semua algoritma. */
+    static String[] run(int mazes, int size, long baseSeed, int threads) {
+        String[] rows = new String[mazes];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new MazeTask(rows, 0, mazes, size, baseSeed));
+        } finally {
+            pool.shutdown();
+        }
+        return rows;
+    }
+
+    static String solveAll(long seed, int size) {
+        HexBoard board = HexGenerator.generate(size, size, seed);
+        StringBuilder sb = new StringBuilder(256);
+        for (String algo : HexSolver.ALGORITHMS) {
+            SolveResult res = HexSolver.solve(board, algo, new Random(seed), false);
+            sb.append(seed).append(',').append(size).append(',').append(algo).append(',')
+              .append(res.path.length).append(',').append(res.cost).append(',').append(res.expanded).append(',')
+              .append(String.format(Locale.ROOT, "%.3f", res.millis())).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Membagi rentang maze secara rekursif sampai cukup kecil untuk dikerjakan langsung
+    private static final class MazeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] rows;
+        private final int from, to, size;
+        private final long baseSeed;
+
+        MazeTask(String[] rows, int from, int to, int size, long baseSeed) {
+            this.rows = rows; this.from = from; this.to = to; this.size = size; this.baseSeed = baseSeed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int i = from; i < to; i++) rows[i] = solveAll(baseSeed + i, size);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MazeTask(rows, from, mid, size, baseSeed), new MazeTask(rows, mid, to, size, baseSeed));
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package org.example;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark command-line untuk solver HexMaze.
+ * <pre>
+ *   java org.example.HexBenchmark heap [size] [mazes]
+ *   java org.example.HexBenchmark heuristic [size] [mazes]
+ *   java org.example.HexBenchmark hpa [size] [mazes] [clusterSize] [queries]
+ *   java org.example.HexBenchmark field [size] [mazes] [queries]
+ *   java org.example.HexBenchmark tiled [size] [mazes] [tileSize]
+ *   java org.example.HexBenchmark crowd [size] [agents] [window] [budgetMs]
+ *   java org.example.HexBenchmark waypoints [size] [mazes] [waypoints]
+ * </pre>
+ */
+public final class HexBenchmark {
+
+    private HexBenchmark() {}
+
+    public static void main(String[] args) {
+        String mode = args.length > 0 ? args[0] : "heap";
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int mazes = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        switch (mode) {
+            case "heap": heap(size, mazes); break;
+            case "heuristic": heuristic(size, mazes); break;
+            case "hpa": hpa(size, mazes, args.length > 3 ? Integer.parseInt(args[3]) : HierarchicalPathfinder.DEFAULT_CLUSTER_SIZE,
+                    args.length > 4 ? Integer.parseInt(args[4]) : 50); break;
+            case "field": field(size, mazes, args.length > 3 ? Integer.parseInt(args[3]) : 200); break;
+            case "tiled": tiled(size, mazes, args.length > 3 ? Integer.parseInt(args[3]) : HexGenerator.DEFAULT_TILE_SIZE); break;
+            case "crowd": crowd(size, mazes, args.length > 3 ? Integer.parseInt(args[3]) : CooperativePlanner.DEFAULT_WINDOW,
+                    args.length > 4 ? Double.parseDouble(args[4]) : 4.0); break;
+            case "waypoints": waypoints(size, mazes, args.length > 3 ? Integer.parseInt(args[3]) : 10); break;
+            default: System.err.println("Unknown mode: " + mode + " (expected: heap, heuristic, hpa, field, tiled, crowd, waypoints)"); System.exit(2);
+        }
+    }
+
+    // --- HEAP: PriorityQueue<Node> lama vs IndexedHeap ---
+    // Baris A* memakai heuristik Euclidean di kedua sisi agar hanya heap yang berbeda;
+    // efek heuristik hex diukur terpisah oleh mode heuristic.
+    static void heap(int size, int mazes) {
+        System.out.printf("Weighted solvers, %d mazes of %dx%d%n", mazes, size, size);
+        System.out.printf("%-9s %-8s %10s %12s %14s%n", "algo", "impl", "ms/solve", "expanded", "alloc KB/solve");
+        for (String algo : new String[]{"Dijkstra", "A*"}) {
+            for (int pass = 0; pass < 2; pass++) { // pass 0 = warm-up JIT
+                long[] legacy = new long[3], indexed = new long[3];
+                for (int m = 0; m < mazes; m++) {
+                    HexBoard board = HexGenerator.generate(size, size, 1000L + m);
+                    long a0 = allocatedBytes(), t0 = System.nanoTime();
+                    int exp = legacySolve(board, algo.equals("A*"));
+                    legacy[0] += System.nanoTime() - t0; legacy[1] += exp; legacy[2] += allocatedBytes() - a0;
+
+                    a0 = allocatedBytes(); t0 = System.nanoTime();
+                    SolveResult res = HexSolver.solve(board, algo.equals("A*") ? HexSolver.A_STAR_EUCLID : algo, null, false);
+                    indexed[0] += System.nanoTime() - t0; indexed[1] += res.expanded; indexed[2] += allocatedBytes() - a0;
+                }
+                if (pass == 0) continue;
+                printRow(algo, "before", legacy, mazes);
+                printRow(algo, "after", indexed, mazes);
+            }
+        }
+    }
+
+    // --- HEURISTIC: Euclidean offset vs jarak hex (cube) ---
+    static void heuristic(int size, int mazes) {
+        System.out.printf("A* heuristics, %d mazes of %dx%d%n", mazes, size, size);
+        System.out.printf("%-6s %12s %12s %8s %10s %10s %9s%n", "seed", "exp euclid", "exp hex", "ratio", "cost eucl", "cost opt", "ms hex");
+        long sumEuclid = 0, sumHex = 0; int suboptimal = 0;
+        for (int m = 0; m < mazes; m++) {
+            long seed = 2000L + m;
+            HexBoard board = HexGenerator.generate(size, size, seed);
+            SolveResult euclid = HexSolver.solve(board, HexSolver.A_STAR_EUCLID, null, false);
+            SolveResult hex = HexSolver.solve(board, "A*", null, false);
+            sumEuclid += euclid.expanded; sumHex += hex.expanded;
+            if (euclid.cost > hex.cost) suboptimal++;
+            System.out.printf("%-6d %12d %12d %8.3f %10d %10d %9.2f%n", seed, euclid.expanded, hex.expanded,
+                    (double) hex.expanded / euclid.expanded, euclid.cost, hex.cost, hex.millis());
+        }
+        System.out.printf("total expanded: euclid=%d hex=%d (%.1f%% fewer), euclid suboptimal on %d/%d mazes%n",
+                sumEuclid, sumHex, 100.0 * (sumEuclid - sumHex) / sumEuclid, suboptimal, mazes);
+    }
+
+    // --- HPA: preprocessing, latensi query dan suboptimality vs A* ---
+    static void hpa(int size, int mazes, int clusterSize, int queries) {
+        System.out.printf("HPA*, %d mazes of %dx%d, cluster %d, %d random queries + start->end per maze%n", mazes, size, size, clusterSize, queries);
+        System.out.printf("%-6s %10s %8s %12s %12s %10s %10s%n", "seed", "prep ms", "nodes", "hpa ms/q", "A* ms/q", "subopt avg", "subopt max");
+        for (int m = 0; m < mazes; m++) {
+            long seed = 3000L + m;
+            HexBoard board = HexGenerator.generate(size, size, seed);
+            HierarchicalPathfinder hpa = new HierarchicalPathfinder(board, clusterSize);
+            Random rand = new Random(seed);
+            long hpaNanos = 0, aStarNanos = 0; double sumRatio = 0, maxRatio = 0;
+            for (int q = 0; q <= queries; q++) {
+                int from = q == 0 ? board.start : randomOpenCell(board, rand), to = q == 0 ? board.end : randomOpenCell(board, rand);
+                SolveResult h = hpa.query(from, to);
+                SolveResult opt = HexSolver.solve(board, "A*", from, to, null, false);
+                hpaNanos += h.nanos; aStarNanos += opt.nanos;
+                double ratio = opt.cost == 0 ? 0 : (double) h.cost / opt.cost - 1;
+                sumRatio += ratio; maxRatio = Math.max(maxRatio, ratio);
+            }
+            System.out.printf("%-6d %10.1f %8d %12.3f %12.3f %9.2f%% %9.2f%%%n", seed, hpa.preprocessNanos() / 1e6, hpa.nodeCount(),
+                    hpaNanos / 1e6 / (queries + 1), aStarNanos / 1e6 / (queries + 1), 100 * sumRatio / (queries + 1), 100 * maxRatio);
+        }
+    }
+
+    // --- FIELD: Dijkstra mundur sekali, lalu banyak start ke end vs A* per query ---
+    static void field(int size, int mazes, int queries) {
+        System.out.printf("Distance field, %d mazes of %dx%d, %d random starts per maze%n", mazes, size, size, queries);
+        System.out.printf("%-6s %10s %12s %12s %10s%n", "seed", "build ms", "field ms/q", "A* ms/q", "mismatch");
+        for (int m = 0; m < mazes; m++) {
+            long seed = 4000L + m;
+            HexBoard board = HexGenerator.generate(size, size, seed);
+            DistanceField field = board.distanceField();
+            Random rand = new Random(seed);
+            long fieldNanos = 0, aStarNanos = 0; int mismatch = 0;
+            for (int q = 0; q < queries; q++) {
+                int from = randomOpenCell(board, rand);
+                SolveResult f = HexSolver.solve(board, DistanceField.ALGORITHM, from, board.end, null, false);
+                SolveResult opt = HexSolver.solve(board, "A*", from, board.end, null, false);
+                fieldNanos += f.nanos; aStarNanos += opt.nanos;
+                if (f.cost != opt.cost) mismatch++;
+            }
+            System.out.printf("%-6d %10.1f %12.4f %12.3f %10d%n", seed, field.buildNanos() / 1e6,
+                    fieldNanos / 1e6 / queries, aStarNanos / 1e6 / queries, mismatch);
+        }
+    }
+
+    // --- TILED: Prim klasik vs generator tile paralel pada 1..N thread ---
+    static void tiled(int size, int mazes, int tileSize) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Maze generation %dx%d, tile %d, %d mazes per row, %d cores%n", size, size, tileSize, mazes, cores);
+        System.out.printf("%-10s %8s %10s %9s %10s%n", "generator", "threads", "ms/maze", "speedup", "identical");
+        long classic = 0;
+        for (int m = 0; m < mazes; m++) {
+            long t0 = System.nanoTime();
+            HexGenerator.generate(size, size, 5000L + m);
+            classic += System.nanoTime() - t0;
+        }
+        System.out.printf("%-10s %8d %10.1f %9s %10s%n", "prim", 1, classic / 1e6 / mazes, "-", "-");
+        byte[][] reference = new byte[mazes][];
+        long single = 0;
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long total = 0; boolean identical = true;
+            for (int m = 0; m < mazes; m++) {
+                long t0 = System.nanoTime();
+                HexBoard board = HexGenerator.generateTiled(size, size, 5000L + m, tileSize, pool);
+                total += System.nanoTime() - t0;
+                if (reference[m] == null) reference[m] = board.gridType;
+                else identical &= Arrays.equals(reference[m], board.gridType);
+            }
+            pool.shutdown();
+            if (threads == 1) single = total;
+            System.out.printf("%-10s %8d %10.1f %8.2fx %10b%n", "tiled", threads, total / 1e6 / mazes, (double) single / total, identical);
+            if (threads < cores && threads * 2 > cores) threads = cores / 2; // ukur juga jumlah core penuh
+        }
+    }
+
+    // --- CROWD: WHCA* banyak pawn menuju end, dengan pengecekan tabrakan independen ---
+    static void crowd(int size, int agents, int window, double budgetMs) {
+        HexBoard board = HexGenerator.create(size, size, 6000L);
+        CooperativePlanner crowd = new CooperativePlanner(board, CooperativePlanner.spawnCells(board, agents, new Random(6000L)), window);
+        int[] seenAt = new int[board.grid.size], prev = crowd.pos.clone();
+        Arrays.fill(seenAt, -1);
+        int conflicts = 0; long maxStep = 0;
+        boolean more = true;
+        while (more && crowd.time() < 100 * size) {
+            long t0 = System.nanoTime();
+            more = crowd.step((long) (budgetMs * 1e6));
+            maxStep = Math.max(maxStep, System.nanoTime() - t0);
+            for (int a = 0; a < agents; a++) {
+                if (crowd.isArrived(a) && crowd.pos[a] == board.end) continue;
+                if (seenAt[crowd.pos[a]] == crowd.time()) conflicts++;
+                seenAt[crowd.pos[a]] = crowd.time();
+            }
+            for (int a = 0; a < agents; a++) { // tukar posisi: a ke sel lama b dan b ke sel lama a
+                int b = crowd.pos[a] != prev[a] ? indexOf(prev, crowd.pos[a]) : -1;
+                if (b >= 0 && b != a && crowd.pos[b] == prev[a]) conflicts++;
+            }
+            System.arraycopy(crowd.pos, 0, prev, 0, agents);
+        }
+        System.out.printf("WHCA* %dx%d, %d agents, window %d, budget %.1f ms%n", size, size, agents, window, budgetMs);
+        System.out.printf("steps=%d arrived=%d/%d cost=%d replans=%d plan ms/step avg=%.3f max=%.3f conflicts=%d%n",
+                crowd.time(), agents - crowd.liveCount(), agents, crowd.totalCost(), crowd.replans(),
+                crowd.planNanos() / 1e6 / Math.max(1, crowd.time()), maxStep / 1e6, conflicts);
+    }
+
+    // --- WAYPOINTS: Dijkstra pasangan sekuensial vs paralel, urutan heuristik vs DP eksak ---
+    static void waypoints(int size, int mazes, int k) {
+        System.out.printf("Waypoint routes, %d mazes of %dx%d, %d waypoints, %d cores%n", mazes, size, size, k, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-6s %12s %12s %12s %12s%n", "seed", "seq ms", "parallel ms", "order ms", "heur gap");
+        ForkJoinPool single = new ForkJoinPool(1);
+        for (int m = 0; m < mazes; m++) {
+            long seed = 7000L + m;
+            HexBoard board = HexGenerator.create(size, size, seed);
+            Random rand = new Random(seed);
+            int[] terminals = new int[k + 2];
+            terminals[0] = board.start; terminals[k + 1] = board.end;
+            for (int i = 1; i <= k; i++) terminals[i] = randomOpenCell(board, rand);
+            long t0 = System.nanoTime();
+            single.submit(() -> WaypointPlanner.pairwise(board, terminals, new int[k + 1])).join();
+            long t1 = System.nanoTime();
+            long[][] d = WaypointPlanner.pairwise(board, terminals, new int[k + 1]);
+            long t2 = System.nanoTime();
+            int[] order = WaypointPlanner.orderHeuristic(d, k);
+            long t3 = System.nanoTime();
+            String gap = k <= WaypointPlanner.EXACT_MAX
+                    ? String.format(Locale.ROOT, "%.2f%%", 100.0 * WaypointPlanner.routeLength(d, order) / WaypointPlanner.routeLength(d, WaypointPlanner.orderExact(d, k)) - 100)
+                    : "-";
+            System.out.printf("%-6d %12.1f %12.1f %12.3f %12s%n", seed, (t1 - t0) / 1e6, (t2 - t1) / 1e6, (t3 - t2) / 1e6, gap);
+        }
+        single.shutdown();
+    }
+
+    private static int indexOf(int[] a, int value) {
+        for (int i = 0; i < a.length; i++) if (a[i] == value) return i;
+        return -1;
+    }
+
+    static int randomOpenCell(HexBoard board, Random rand) {
+        while (true) {
+            int id = rand.nextInt(board.grid.size);
+            if (!board.isWall(id)) return id;
+        }
+    }
+
+    private static void printRow(String algo, String impl, long[] totals, int mazes) {
+        System.out.printf("%-9s %-8s %10.2f %12d %14d%n", algo, impl, totals[0] / 1e6 / mazes, totals[1] / mazes, totals[2] / 1024 / mazes);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    // Implementasi sebelum IndexedHeap: satu Node per relaksasi, entri basi dilewati saat poll.
+    private static final class Node implements Comparable<Node> {
+        final int id, g, f;
+        Node(int id, int g, int f) { this.id = id; this.g = g; this.f = f; }
+        @Override public int compareTo(Node other) { return Integer.compare(this.f, other.f); }
+    }
+
+    private static int legacySolve(HexBoard board, boolean aStar) {
+        HexGrid grid = board.grid;
+        int cols = grid.cols, endR = board.endNode.x, endC = board.endNode.y;
+        int[] dist = new int[grid.size];
+        boolean[] visited = new boolean[grid.size];
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        PriorityQueue<Node> queue = new PriorityQueue<>();
+        dist[board.start] = 0;
+        queue.add(new Node(board.start, 0, 0));
+        int expanded = 0;
+        while (!queue.isEmpty()) {
+            Node current = queue.poll();
+            if (current.id == board.end) break;
+            if (current.g > dist[current.id]) continue;
+            visited[current.id] = true; expanded++;
+            int deg = grid.neighbors(current.id, nbr);
+            for (int k = 0; k < deg; k++) {
+                int n = nbr[k];
+                if (board.isWall(n) || visited[n]) continue;
+                int newG = current.g + board.cost(n);
+                if (newG < dist[n]) {
+                    dist[n] = newG;
+                    int h = 0;
+                    if (aStar) { int dr = n / cols - endR, dc = n % cols - endC; h = (int) (Math.sqrt(dr * dr + dc * dc) * HexBoard.COST_GRASS); }
+                    queue.add(new Node(n, newG, newG + h));
+                }
+            }
+        }
+        return expanded;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example;
+
+import java.awt.Point;
+
+/**
+ * Data maze hexagonal (odd-r offset) tanpa ketergantungan ke Swing, sehingga bisa
+ * dibuat dan diselesaikan tanpa window. Sel disimpan flat dengan id {@code r * cols + c},
+ * 4 bit per sel (dua sel per byte, sel genap di nibble bawah); isinya dibangun oleh
+ * {@link HexGenerator} atau dibaca dari file oleh {@link MazeFile}.
+ */
+public class HexBoard {
+
+    // --- KONFIGURASI BOBOT (WEIGHTS) ---
+    public static final int COST_GRASS = 1;
+    public static final int COST_MUD = 5;
+    public static final int COST_WATER = 10;
+
+    // --- TIPE SEL ---
+    public static final int WALL = 0;
+    public static final int GRASS = 1;
+    public static final int MUD = 2;
+    public static final int WATER = 3;
+
+    // Biaya terkecil untuk memasuki sel, dipakai agar heuristik A* tetap admissible
+    public static final int MIN_COST = Math.min(COST_GRASS, Math.min(COST_MUD, COST_WATER));
+
+    private static final int[] COST_BY_TYPE = {1, COST_GRASS, COST_MUD, COST_WATER};
+
+    final int rows;
+    final int cols;
+    final HexGrid grid;
+    final long seed;
+    final byte[] gridType; // packed, lihat type(id)
+    final Point startNode;
+    final Point endNode;
+    final int start;
+    final int end;
+
+    // Cache turunan dari terrain; dibangun ulang bila version berubah sejak dibangun
+    private int version;
+    private HierarchicalPathfinder hierarchy;
+    private int hierarchyVersion;
+    private DistanceField distanceField;
+    private int distanceFieldVersion;
+
+    HexBoard(int rows, int cols, long seed) { this(rows, cols, seed, new byte[packedLength(rows, cols)]); }
+
+    HexBoard(int rows, int cols, long seed, byte[] packed) {
+        this.rows = rows; this.cols = cols; this.seed = seed;
+        grid = new HexGrid(rows, cols);
+        if (packed.length != packedLength(rows, cols)) throw new IllegalArgumentException("Packed cells length " + packed.length + " does not match " + rows + "x" + cols);
+        gridType = packed;
+        startNode = new Point(1, 1); endNode = new Point(rows - 2, cols - 2);
+        start = grid.id(startNode.x, startNode.y); end = grid.id(endNode.x, endNode.y);
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public HexGrid getGrid() { return grid; }
+    public Point getStart() { return startNode; }
+    public Point getEnd() { return endNode; }
+    public long getSeed() { return seed; }
+    public int getType(int r, int c) { return type(r * cols + c); }
+
+    static int packedLength(int rows, int cols) { return (int) (((long) rows * cols + 1) >>> 1); }
+
+    /** Naik setiap kali terrain sebuah sel diubah lewat {@link #setType}. */
+    int version() { return version; }
+
+    // Graf HPA* dibangun sekali per maze saat pertama kali dibutuhkan
+    synchronized HierarchicalPathfinder hierarchy() {
+        if (hierarchy == null || hierarchyVersion != version) { int v = version; hierarchy = new HierarchicalPathfinder(this); hierarchyVersion = v; }
+        return hierarchy;
+    }
+
+    // Jarak semua sel ke end, satu Dijkstra mundur per versi terrain
+    synchronized DistanceField distanceField() {
+        if (distanceField == null || distanceFieldVersion != version) { int v = version; distanceField = new DistanceField(this, end); distanceFieldVersion = v; }
+        return distanceField;
+    }
+
+    int type(int id) { return (gridType[id >>> 1] >>> ((id & 1) << 2)) & 0xF; }
+    boolean isWall(int id) { return type(id) == WALL; }
+    int cost(int id) { return COST_BY_TYPE[type(id)]; }
+
+    void setType(int id, int type) { initType(id, type); version++; }
+
+    // Tanpa menaikkan version: dipakai generator paralel saat board belum dibagikan, supaya
+    // thread tile tidak berebut satu field bersama
+    void initType(int id, int type) {
+        int i = id >>> 1, shift = (id & 1) << 2;
+        gridType[i] = (byte) ((gridType[i] & ~(0xF << shift)) | ((type & 0xF) << shift));
+    }
+}
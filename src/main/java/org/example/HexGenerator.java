@@ -0,0 +1,327 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static org.example.HexBoard.*;
+
+/**
+ * Generator maze hexagonal (randomized Prim). Frontier disimpan sebagai array id
+ * dengan bitset keanggotaan dan pengambilan acak swap-remove, jadi setiap operasi
+ * O(1) dan total generasi linear terhadap jumlah sel.
+ * <p>
+ * Untuk maze besar {@link #generateTiled} membagi interior menjadi tile yang dipisah seam
+ * dinding selebar satu sel. Setiap tile dibangun dengan Prim di task fork-join sendiri
+ * memakai stream {@link SplittableRandom} yang di-split berurutan dari seed, lalu seam
+ * dibuka acak (minimal satu bukaan per pasangan tile bertetangga) supaya maze tetap
+ * terhubung. Hasilnya sama untuk seed yang sama berapa pun jumlah thread-nya.
+ */
+public final class HexGenerator {
+
+    private HexGenerator() {}
+
+    public static HexBoard generate(int rows, int cols, long seed) {
+        if (rows < 3 || cols < 3) throw new IllegalArgumentException("Maze must be at least 3x3: " + rows + "x" + cols);
+        MazeEvents.Generate event = new MazeEvents.Generate();
+        event.begin();
+        HexBoard b = new HexBoard(rows, cols, seed);
+        Random rand = new Random(seed);
+        HexGrid grid = b.grid;
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+
+        int[] frontier = new int[1024]; int frontierSize = 0;
+        long[] inFrontier = new long[(grid.size + 63) >>> 6];
+
+        b.setType(b.start, GRASS);
+        int deg = grid.neighbors(b.start, nbr);
+        for (int k = 0; k < deg; k++) { frontier[frontierSize++] = nbr[k]; inFrontier[nbr[k] >>> 6] |= 1L << nbr[k]; }
+
+        while (frontierSize > 0) {
+            int index = rand.nextInt(frontierSize);
+            int wall = frontier[index];
+            frontier[index] = frontier[--frontierSize];
+            inFrontier[wall >>> 6] &= ~(1L << wall);
+
+            deg = grid.neighbors(wall, nbr);
+            int visitedCount = 0;
+            for (int k = 0; k < deg; k++) if (!b.isWall(nbr[k])) visitedCount++;
+            if (visitedCount != 1) continue;
+
+            b.setType(wall, generateRandomTerrain(rand));
+            for (int k = 0; k < deg; k++) {
+                int n = nbr[k];
+                if (!b.isWall(n) || (inFrontier[n >>> 6] & (1L << n)) != 0) continue;
+                if (frontierSize == frontier.length) frontier = Arrays.copyOf(frontier, frontierSize * 2);
+                frontier[frontierSize++] = n;
+                inFrontier[n >>> 6] |= 1L << n;
+            }
+        }
+        b.setType(b.start, GRASS); b.setType(b.end, GRASS);
+        addMultiplePaths(b, rand);
+        commit(event, rows, cols, seed, false);
+        return b;
+    }
+
+    private static void commit(MazeEvents.Generate event, int rows, int cols, long seed, boolean tiled) {
+        if (!event.shouldCommit()) return;
+        event.rows = rows; event.cols = cols; event.seed = seed; event.tiled = tiled;
+        event.commit();
+    }
+
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    // Maze di atas ukuran ini dibangun per tile secara paralel
+    public static final long TILED_MIN_CELLS = 1L << 20;
+
+    /** Prim klasik untuk maze kecil, versi tile paralel mulai {@link #TILED_MIN_CELLS} sel. */
+    public static HexBoard create(int rows, int cols, long seed) {
+        return (long) rows * cols >= TILED_MIN_CELLS ? generateTiled(rows, cols, seed) : generate(rows, cols, seed);
+    }
+
+    public static HexBoard generateTiled(int rows, int cols, long seed) {
+        return generateTiled(rows, cols, seed, DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public static HexBoard generateTiled(int rows, int cols, long seed, int tileSize, ForkJoinPool pool) {
+        if (rows < 3 || cols < 3) throw new IllegalArgumentException("Maze must be at least 3x3: " + rows + "x" + cols);
+        if (tileSize < 8) throw new IllegalArgumentException("Tile size must be at least 8: " + tileSize);
+        MazeEvents.Generate event = new MazeEvents.Generate();
+        event.begin();
+        HexBoard b = new HexBoard(rows, cols, seed);
+        int[] rowPos = tileBounds(rows, tileSize), colPos = tileBounds(cols, tileSize);
+        int tileRows = rowPos.length - 1, tileCols = colPos.length - 1;
+
+        // Stream per tile di-split berurutan, tidak bergantung pada urutan eksekusi task
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom seams = root.split();
+        SplittableRandom[] streams = new SplittableRandom[tileRows * tileCols];
+        for (int t = 0; t < streams.length; t++) streams[t] = root.split();
+
+        pool.invoke(new TileTask(b, rowPos, colPos, streams, 0, streams.length));
+        stitch(b, rowPos, colPos, seams);
+        connectEnd(b, rowPos[tileRows - 1], rowPos[tileRows] - 1, colPos[tileCols - 1], colPos[tileCols] - 1);
+        b.setType(b.start, GRASS); b.setType(b.end, GRASS);
+        commit(event, rows, cols, seed, true);
+        return b;
+    }
+
+    // Batas band: band i = [pos[i], pos[i+1] - 1), seam di pos[i+1] - 1 (seam terakhir = border)
+    private static int[] tileBounds(int n, int tileSize) {
+        int span = n - 1, count = Math.max(1, span / tileSize);
+        int[] pos = new int[count + 1];
+        for (int i = 0; i <= count; i++) pos[i] = 1 + (int) ((long) i * span / count);
+        return pos;
+    }
+
+    // Prim + loop tambahan di dalam satu tile. Tetangga di luar tile selalu seam/border
+    // (dinding yang tidak ditulis selama fase ini), jadi tile tidak saling membaca tulisan
+    // tile lain; sel di kedua sisi seam terpisah dua kolom sehingga tidak berbagi byte.
+    private static void buildTile(HexBoard b, int r0, int r1, int c0, int c1, SplittableRandom rand) {
+        HexGrid grid = b.grid;
+        int w = c1 - c0, cells = (r1 - r0) * w;
+        if (cells <= 0) return;
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        int[] frontier = new int[Math.min(cells, 1024)]; int frontierSize = 0;
+        long[] inFrontier = new long[(cells + 63) >>> 6];
+
+        int seedCell;
+        if (inTile(grid, b.start, r0, r1, c0, c1)) seedCell = b.start;
+        else if (inTile(grid, b.end, r0, r1, c0, c1)) seedCell = b.end;
+        else seedCell = grid.id(r0 + rand.nextInt(r1 - r0), c0 + rand.nextInt(w));
+        b.initType(seedCell, GRASS);
+        int deg = grid.neighbors(seedCell, nbr);
+        for (int k = 0; k < deg; k++) {
+            int n = nbr[k];
+            if (!inTile(grid, n, r0, r1, c0, c1)) continue;
+            int local = (grid.row(n) - r0) * w + grid.col(n) - c0;
+            frontier[frontierSize++] = n; inFrontier[local >>> 6] |= 1L << local;
+        }
+
+        while (frontierSize > 0) {
+            int index = rand.nextInt(frontierSize);
+            int wall = frontier[index];
+            frontier[index] = frontier[--frontierSize];
+            int wl = (grid.row(wall) - r0) * w + grid.col(wall) - c0;
+            inFrontier[wl >>> 6] &= ~(1L << wl);
+
+            deg = grid.neighbors(wall, nbr);
+            int visitedCount = 0;
+            for (int k = 0; k < deg; k++) if (!b.isWall(nbr[k])) visitedCount++;
+            if (visitedCount != 1) continue;
+
+            b.initType(wall, terrainFor(rand.nextDouble()));
+            for (int k = 0; k < deg; k++) {
+                int n = nbr[k];
+                if (!b.isWall(n) || !inTile(grid, n, r0, r1, c0, c1)) continue;
+                int local = (grid.row(n) - r0) * w + grid.col(n) - c0;
+                if ((inFrontier[local >>> 6] & (1L << local)) != 0) continue;
+                if (frontierSize == frontier.length) frontier = Arrays.copyOf(frontier, frontierSize * 2);
+                frontier[frontierSize++] = n;
+                inFrontier[local >>> 6] |= 1L << local;
+            }
+        }
+
+        // Sama seperti addMultiplePaths, tapi hanya di dalam tile
+        for (int k = 0, attempts = cells / 10; k < attempts; k++) {
+            int id = grid.id(r0 + rand.nextInt(r1 - r0), c0 + rand.nextInt(w));
+            if (!b.isWall(id)) continue;
+            deg = grid.neighbors(id, nbr);
+            int pathNeighbors = 0;
+            for (int i = 0; i < deg; i++) if (!b.isWall(nbr[i])) pathNeighbors++;
+            if (pathNeighbors >= 2 && rand.nextDouble() < 0.3) b.initType(id, terrainFor(rand.nextDouble()));
+        }
+    }
+
+    private static boolean inTile(HexGrid grid, int id, int r0, int r1, int c0, int c1) {
+        int r = grid.row(id), c = grid.col(id);
+        return r >= r0 && r < r1 && c >= c0 && c < c1;
+    }
+
+    // Bila start dan end satu tile, Prim tile itu hanya tumbuh dari start dan end (di pojok tile)
+    // bisa tertinggal dengan semua tetangga dinding. Dinding terpendek di dalam tile antara end
+    // dan sel terbuka terdekat dilubangi; tidak berbuat apa-apa bila end sudah menyentuh jalur.
+    private static void connectEnd(HexBoard b, int r0, int r1, int c0, int c1) {
+        HexGrid grid = b.grid;
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        int deg = grid.neighbors(b.end, nbr);
+        for (int k = 0; k < deg; k++) if (!b.isWall(nbr[k]) && inTile(grid, nbr[k], r0, r1, c0, c1)) return;
+
+        int w = c1 - c0;
+        int[] parent = new int[(r1 - r0) * w], queue = new int[parent.length];
+        Arrays.fill(parent, -1);
+        int head = 0, tail = 0;
+        queue[tail++] = b.end;
+        while (head < tail) {
+            int u = queue[head++];
+            deg = grid.neighbors(u, nbr);
+            for (int k = 0; k < deg; k++) {
+                int v = nbr[k];
+                if (v == b.end || !inTile(grid, v, r0, r1, c0, c1)) continue;
+                int local = (grid.row(v) - r0) * w + grid.col(v) - c0;
+                if (parent[local] >= 0) continue;
+                if (!b.isWall(v)) {
+                    for (int x = u; x != b.end; x = parent[(grid.row(x) - r0) * w + grid.col(x) - c0]) b.setType(x, GRASS);
+                    return;
+                }
+                parent[local] = u; queue[tail++] = v;
+            }
+        }
+    }
+
+    // Setiap pasangan tile bertetangga mendapat minimal satu bukaan di seam-nya (berurutan, deterministik)
+    private static void stitch(HexBoard b, int[] rowPos, int[] colPos, SplittableRandom rand) {
+        HexGrid grid = b.grid;
+        int[] nbr = new int[HexGrid.MAX_DEGREE], inner = new int[HexGrid.MAX_DEGREE], cand = new int[Math.max(b.rows, b.cols)];
+        for (int i = 0; i < rowPos.length - 1; i++) {
+            for (int j = 0; j < colPos.length - 1; j++) {
+                int r0 = rowPos[i], r1 = rowPos[i + 1] - 1, c0 = colPos[j], c1 = colPos[j + 1] - 1;
+                if (j + 1 < colPos.length - 1) // seam vertikal di kolom c1, ke tile kanan
+                    stitchSeam(b, grid.id(r0, c1), grid.cols, r1 - r0, true, c1, rand, nbr, inner, cand);
+                if (i + 1 < rowPos.length - 1) // seam horizontal di baris r1, ke tile bawah
+                    stitchSeam(b, grid.id(r1, c0), 1, c1 - c0, false, r1, rand, nbr, inner, cand);
+            }
+        }
+    }
+
+    private static void stitchSeam(HexBoard b, int first, int step, int count, boolean vertical, int line,
+                                   SplittableRandom rand, int[] nbr, int[] inner, int[] cand) {
+        HexGrid grid = b.grid;
+        int n = 0;
+        for (int k = 0; k < count; k++) {
+            int x = first + k * step, deg = grid.neighbors(x, nbr);
+            boolean before = false, after = false;
+            for (int i = 0; i < deg; i++) {
+                if (b.isWall(nbr[i])) continue;
+                int pos = vertical ? grid.col(nbr[i]) : grid.row(nbr[i]);
+                if (pos < line) before = true; else if (pos > line) after = true;
+            }
+            if (before && after) cand[n++] = x;
+        }
+        if (n == 0) { // jarang: tidak ada sel seam yang langsung menyentuh jalur di kedua sisi
+            for (int k = 0; k < count; k++) {
+                int x = first + k * step;
+                int before = sideAnchor(b, x, vertical, line, true, nbr, inner), after = sideAnchor(b, x, vertical, line, false, nbr, inner);
+                if (before < 0 || after < 0) continue;
+                b.setType(x, GRASS); b.setType(before, GRASS); b.setType(after, GRASS);
+                return;
+            }
+            return;
+        }
+        int forced = rand.nextInt(n);
+        for (int k = 0; k < n; k++) {
+            if (k == forced || rand.nextDouble() < 0.3) b.setType(cand[k], terrainFor(rand.nextDouble()));
+        }
+    }
+
+    // Tetangga x di satu sisi seam yang terbuka, atau dinding yang bertetangga dengan jalur di sisi itu
+    private static int sideAnchor(HexBoard b, int x, boolean vertical, int line, boolean before, int[] nbr, int[] inner) {
+        HexGrid grid = b.grid;
+        int deg = grid.neighbors(x, nbr), fallback = -1;
+        for (int i = 0; i < deg; i++) {
+            int y = nbr[i], pos = vertical ? grid.col(y) : grid.row(y);
+            if (pos == line || (pos < line) != before) continue;
+            if (!b.isWall(y)) return y;
+            if (fallback >= 0) continue;
+            int d = grid.neighbors(y, inner);
+            for (int k = 0; k < d; k++) {
+                int z = inner[k], zp = vertical ? grid.col(z) : grid.row(z);
+                if (!b.isWall(z) && zp != line && (zp < line) == before) { fallback = y; break; }
+            }
+        }
+        return fallback;
+    }
+
+    // Membagi rentang tile secara rekursif seperti HexBatch.MazeTask
+    private static final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final HexBoard b;
+        private final int[] rowPos, colPos;
+        private final SplittableRandom[] streams;
+        private final int from, to;
+
+        TileTask(HexBoard b, int[] rowPos, int[] colPos, SplittableRandom[] streams, int from, int to) {
+            this.b = b; this.rowPos = rowPos; this.colPos = colPos; this.streams = streams; this.from = from; this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                int tileCols = colPos.length - 1;
+                for (int t = from; t < to; t++) {
+                    int i = t / tileCols, j = t % tileCols;
+                    buildTile(b, rowPos[i], rowPos[i + 1] - 1, colPos[j], colPos[j + 1] - 1, streams[t]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TileTask(b, rowPos, colPos, streams, from, mid), new TileTask(b, rowPos, colPos, streams, mid, to));
+        }
+    }
+
+    // Membuka dinding yang menyambung >= 2 jalur supaya ada rute alternatif (loop)
+    static void addMultiplePaths(HexBoard b, Random rand) {
+        HexGrid grid = b.grid;
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        long attempts = ((long) b.rows * b.cols) / 10;
+        for (long k = 0; k < attempts; k++) {
+            int r = rand.nextInt(b.rows - 2) + 1; int c = rand.nextInt(b.cols - 2) + 1;
+            int id = grid.id(r, c);
+            if (b.isWall(id)) {
+                int deg = grid.neighbors(id, nbr);
+                int pathNeighbors = 0;
+                for (int i = 0; i < deg; i++) if (!b.isWall(nbr[i])) pathNeighbors++;
+                if (pathNeighbors >= 2 && rand.nextDouble() < 0.3) b.setType(id, generateRandomTerrain(rand));
+            }
+        }
+    }
+
+    static int generateRandomTerrain(Random rand) { return terrainFor(rand.nextDouble()); }
+
+    private static int terrainFor(double chance) {
+        if (chance < 0.65) return GRASS; if (chance < 0.85) return MUD; return WATER;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example;
+
+/**
+ * Topologi grid hexagonal odd-r dengan id sel {@code r * cols + c}.
+ * <p>
+ * Tetangga sebuah sel hanya bergantung pada paritas baris dan apakah sel berada di
+ * tepi grid, jadi offset id tetangga dihitung sekali per kelas sel dan disimpan flat
+ * (gaya CSR: {@code classStart} menunjuk ke potongan {@code delta}). Iterasi tetangga
+ * tidak mengalokasikan objek dan memorinya konstan berapapun ukuran grid.
+ */
+public final class HexGrid {
+
+    // Urutan arah sama dengan getHexNeighbors lama (baris genap / ganjil)
+    private static final int[][] DIRS_EVEN = {{-1, -1}, {-1, 0}, {0, -1}, {0, 1}, {1, -1}, {1, 0}};
+    private static final int[][] DIRS_ODD = {{-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, 0}, {1, 1}};
+
+    public static final int MAX_DEGREE = 6;
+
+    final int rows;
+    final int cols;
+    final int size;
+
+    // kelas = paritas << 4 | atas << 3 | bawah << 2 | kiri << 1 | kanan
+    private final int[] classStart = new int[33];
+    private final int[] delta;
+    private final int[] stepEven = new int[MAX_DEGREE], stepOdd = new int[MAX_DEGREE]; // offset id per arah
+
+    public HexGrid(int rows, int cols) {
+        if (rows < 1 || cols < 1) throw new IllegalArgumentException("Grid size must be positive: " + rows + "x" + cols);
+        this.rows = rows; this.cols = cols; this.size = rows * cols;
+        int[] tmp = new int[32 * MAX_DEGREE]; int n = 0;
+        for (int cls = 0; cls < 32; cls++) {
+            classStart[cls] = n;
+            int[][] dirs = (cls & 16) == 0 ? DIRS_EVEN : DIRS_ODD;
+            for (int[] d : dirs) {
+                if (d[0] < 0 && (cls & 8) != 0) continue;
+                if (d[0] > 0 && (cls & 4) != 0) continue;
+                if (d[1] < 0 && (cls & 2) != 0) continue;
+                if (d[1] > 0 && (cls & 1) != 0) continue;
+                tmp[n++] = d[0] * cols + d[1];
+            }
+        }
+        classStart[32] = n;
+        delta = java.util.Arrays.copyOf(tmp, n);
+        for (int d = 0; d < MAX_DEGREE; d++) {
+            stepEven[d] = DIRS_EVEN[d][0] * cols + DIRS_EVEN[d][1];
+            stepOdd[d] = DIRS_ODD[d][0] * cols + DIRS_ODD[d][1];
+        }
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return size; }
+
+    public int id(int r, int c) { return r * cols + c; }
+    public int row(int id) { return id / cols; }
+    public int col(int id) { return id % cols; }
+    public boolean isValid(int r, int c) { return r >= 0 && r < rows && c >= 0 && c < cols; }
+
+    // --- KOORDINAT CUBE ---
+    // odd-r offset -> axial (q, r); s = -q - r tidak perlu disimpan
+    public static int axialQ(int r, int c) { return c - ((r - (r & 1)) >> 1); }
+
+    /** Jarak langkah hex sebenarnya antara (r1, c1) dan (r2, c2). */
+    public static int hexDistance(int r1, int c1, int r2, int c2) {
+        int dq = axialQ(r1, c1) - axialQ(r2, c2), dr = r1 - r2;
+        return (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) >> 1;
+    }
+
+    public int hexDistance(int a, int b) { return hexDistance(a / cols, a % cols, b / cols, b % cols); }
+
+    private int cellClass(int id) {
+        int r = id / cols, c = id - r * cols;
+        return (r & 1) << 4 | (r == 0 ? 8 : 0) | (r == rows - 1 ? 4 : 0) | (c == 0 ? 2 : 0) | (c == cols - 1 ? 1 : 0);
+    }
+
+    // --- ARAH ---
+    // Arah 0..5 = indeks DIRS_EVEN/DIRS_ODD sesuai paritas baris; cukup satu byte per sel
+
+    /** Tetangga ke arah {@code dir}; pemanggil menjamin tetangga itu ada di dalam grid. */
+    public int step(int id, int dir) { return id + (((id / cols) & 1) == 0 ? stepEven[dir] : stepOdd[dir]); }
+
+    /** Arah dari {@code from} ke tetangganya {@code to}, atau -1 jika bukan tetangga. */
+    public int direction(int from, int to) {
+        int[] steps = ((from / cols) & 1) == 0 ? stepEven : stepOdd;
+        for (int d = 0; d < MAX_DEGREE; d++) if (from + steps[d] == to) return d;
+        return -1;
+    }
+
+    /** Mengisi {@code out} (minimal {@link #MAX_DEGREE}) dengan id tetangga, mengembalikan jumlahnya. */
+    public int neighbors(int id, int[] out) {
+        int cls = cellClass(id), from = classStart[cls], to = classStart[cls + 1];
+        for (int k = from; k < to; k++) out[k - from] = id + delta[k];
+        return to - from;
+    }
+}
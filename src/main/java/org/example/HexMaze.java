@@ -1,6 +1,5 @@
 package org.example;
 
-import javax.sound.sampled.*;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
@@ -8,25 +7,15 @@ import javax.swing.border.TitledBorder;
 import javax.swing.plaf.basic.BasicComboBoxUI;
 import java.awt.*;
 import java.awt.event.*;
-import java.net.URL;
+import java.awt.image.BufferedImage;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.Timer;
 
 public class HexMaze extends JPanel {
 
-    // --- KONFIGURASI BOBOT (WEIGHTS) ---
-    private final int COST_GRASS = 1;
-    private final int COST_MUD = 5;
-    private final int COST_WATER = 10;
-
-    // --- TIPE SEL ---
-    private final int WALL = 0;
-    private final int GRASS = 1;
-    private final int MUD = 2;
-    private final int WATER = 3;
-    private final int SOLUTION = 99;
-
     // --- VARIABEL GLOBAL ---
     private int rows = 25;
     private int cols = 25;
@@ -41,205 +30,472 @@ public class HexMaze extends JPanel {
     private final Color COL_WATER = new Color(25, 25, 112);
     private final Color COL_VISITED = new Color(0, 240, 255, 180);
     private final Color COL_VISITED_BORDER = new Color(150, 255, 255);
+    private final Color COL_VISITED_BACK = new Color(255, 140, 0, 180);
+    private final Color COL_VISITED_BACK_BORDER = new Color(255, 210, 140);
     private final Color COL_START = new Color(0, 255, 0);
     private final Color COL_FINISH_RED = new Color(255, 50, 50);
     private final Color COL_PAWN = new Color(255, 215, 0);
     private final Color COL_PAWN_BORDER = new Color(50, 50, 0);
+    private final Color COL_HEX_EDGE = new Color(0, 0, 0, 50);
+    private final Color COL_SOLUTION_CORE = new Color(255, 255, 255, 100);
+    private final Color COL_MINI_SOLUTION = new Color(255, 0, 255);
+
+    private static final BasicStroke STROKE_THIN = new BasicStroke(1f);
+    private static final BasicStroke STROKE_VISITED = new BasicStroke(1.5f);
+    private static final BasicStroke STROKE_BOLD = new BasicStroke(2f);
+    private static final double[] HEX_COS = new double[6], HEX_SIN = new double[6];
+    static {
+        for (int i = 0; i < 6; i++) { double a = Math.toRadians(30 + (60 * i)); HEX_COS[i] = Math.cos(a); HEX_SIN[i] = Math.sin(a); }
+    }
 
+    private final ClipPool winSound = new ClipPool("/winner-sound.wav", 3);
     private float animTime = 0f;
-    private Timer renderTimer;
-
-    private int[][] gridType;
-    private Point[][] parents;
+    // Solusi berdenyut selama ini setelah sel terakhirnya ditandai, lalu diam agar timer bisa berhenti
+    private static final long PULSE_NANOS = 3_000_000_000L;
+    private long pulseUntil;
+    private final RenderScheduler scheduler = new RenderScheduler(this, 16, this::onFrame);
+
+    private HexBoard board;
+    private byte[][] discovered;    // overlay replay trace: bit 1 = frontier maju, bit 2 = mundur
+    private boolean[][] solution;   // overlay jalur, terrain asli tidak diubah
+    private int solMinR, solMaxR = -1, solMinC, solMaxC; // bounding box sel solusi untuk repaint denyut
     private Point startNode;
     private Point endNode;
     private Point pawnPosition = null;
 
     private JLabel lblStatSteps;
     private JLabel lblStatCost;
+    private JLabel lblStatCostTitle; // "Cost:", atau "Arrived:" di mode flow field
 
     // Rendering Dinamis Hexagon
     private double hexRadius, hexWidth, hexHeight, offsetX, offsetY;
-
-    private Timer searchTimer;
+    private BufferedImage terrainLayer; // cache dinding + terrain, null = perlu dirender ulang
+    private final Polygon scratchPoly = new Polygon(), scratchCore = new Polygon();
+    private Font labelFont;
+
+    // Viewport: zoom 1 = seluruh board muat di panel, pan dalam piksel dari posisi tengah.
+    // Hanya hex yang terlihat yang digambar; bila hex lebih kecil dari MINIMAP_HEX_WIDTH
+    // board digambar dari image satu piksel per sel yang diskalakan.
+    private double zoom = 1, panX, panY;
+    private static final double MAX_HEX_WIDTH = 96;
+    private static final double MINIMAP_HEX_WIDTH = 4;
+    private double layoutW, layoutX, layoutY; // layout yang dipakai terrainLayer
+    private BufferedImage miniTerrain, miniSearch, miniSolution; // null = dibangun ulang saat perlu
+    private Point dragFrom; // titik awal drag pan
+
+    private SwingWorker<SolveResult, Void> solveWorker;
+    private TracePlayback playback;
+    private static final long PLAYBACK_BUDGET_NANOS = 6_000_000L; // budget replay per frame 16 ms
+    private int playbackSpeed = 0; // indeks TracePlayback.SPEEDS
+    private boolean playbackPaused, syncingSlider;
+    private JSlider seekSlider;
+    private int replayMinR, replayMaxR = -1, replayMinC, replayMaxC; // sel replay yang berubah sejak frame terakhir
     private Timer pathTimer;
     private boolean isSolving = false;
 
+    // Cat terrain dengan mouse; planner LPA* tetap hidup supaya jalur diperbaiki per edit
+    private int brush = -1; // -1 = tidak mengecat, selain itu HexBoard.WALL/GRASS/MUD/WATER
+    static final int BRUSH_WAYPOINT = -2; // klik menandai / menghapus waypoint
+    private IncrementalPlanner planner;
+    // Worker solve yang masih membaca board; solver tidak memeriksa interrupt, jadi cancel(true)
+    // hanya membuang hasilnya dan thread-nya tetap jalan sampai selesai
+    private final AtomicInteger busySolvers = new AtomicInteger();
+    private final List<Integer> waypoints = new ArrayList<>(); // id sel, urutan klik
+    private static final Color COL_WAYPOINT = new Color(0, 200, 255);
+
+    // Mode banyak pawn (WHCA*): semua menuju endNode tanpa berbagi hex di langkah yang sama
+    private static final int CROWD_SIZE = 100;
+    private static final long CROWD_BUDGET_NANOS = 4_000_000L; // budget perencanaan per langkah
+    private CooperativePlanner crowd;
+    private Timer crowdTimer;
+
+    // Mode flow field: ribuan agen membaca arah dari satu field, O(1) per agen per tick.
+    // Agen disimpan sebagai array paralel; masuk ke sel berbiaya k berarti menunggu k - 1 tick.
+    private static final int FLOW_AGENTS = 10_000;
+    private FlowField flow;
+    private int[] agentCell;
+    private byte[] agentWait, agentJitterX, agentJitterY;
+    private int flowTicks, flowArrivals;
+    private Timer flowTimer;
+    private BufferedImage agentSprite;
+    private final Random flowRand = new Random();
+
     public HexMaze() {
         setBackground(COL_BG);
         generateMaze(rows, cols);
-        renderTimer = new Timer(16, e -> { animTime += 0.1f; if (animTime > 100) animTime = 0; repaint(); });
-        renderTimer.start();
+        // Klik kiri mengecat (sesuai kuas); drag kanan, atau drag kiri saat kuas mati, menggeser
+        // view; roda mouse zoom di titik kursor; klik ganda saat kuas mati mengembalikan view.
+        MouseAdapter painter = new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent e) {
+                if (SwingUtilities.isRightMouseButton(e) || brush == -1) dragFrom = e.getPoint();
+                else if (brush == BRUSH_WAYPOINT) toggleWaypoint(e.getX(), e.getY());
+                else paintAt(e.getX(), e.getY());
+            }
+            @Override public void mouseDragged(MouseEvent e) {
+                if (dragFrom == null) { paintAt(e.getX(), e.getY()); return; }
+                panBy(e.getX() - dragFrom.x, e.getY() - dragFrom.y);
+                dragFrom = e.getPoint();
+            }
+            @Override public void mouseReleased(MouseEvent e) { dragFrom = null; }
+            @Override public void mouseClicked(MouseEvent e) { if (e.getClickCount() == 2 && brush == -1) resetView(); }
+            @Override public void mouseWheelMoved(MouseWheelEvent e) { zoomAt(e.getX(), e.getY(), Math.pow(1.25, -e.getPreciseWheelRotation())); }
+        };
+        addMouseListener(painter); addMouseMotionListener(painter); addMouseWheelListener(painter);
     }
 
-    public void setStatLabels(JLabel steps, JLabel cost) {
+    public void setBrush(int type) { brush = type; }
+
+    public void setStatLabels(JLabel steps, JLabel cost, JLabel costTitle) {
         this.lblStatSteps = steps;
         this.lblStatCost = cost;
+        this.lblStatCostTitle = costTitle;
     }
 
-    private void playWinSound() {
-        try {
-            URL url = getClass().getResource("/winner-sound.wav");
-            if (url != null) {
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(url);
-                Clip clip = AudioSystem.getClip(); clip.open(audioIn); clip.start();
-            }
-        } catch (Exception e) { /* Silent */ }
-    }
-
-    // --- LOGIKA HEXAGONAL ---
-    private List<Point> getHexNeighbors(int r, int c) {
-        List<Point> neighbors = new ArrayList<>();
-        int[][] dirs;
-        if (r % 2 == 0) dirs = new int[][]{{-1, -1}, {-1, 0}, {0, -1}, {0, 1}, {1, -1}, {1, 0}};
-        else dirs = new int[][]{{-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, 0}, {1, 1}};
-        for (int[] d : dirs) {
-            int nr = r + d[0], nc = c + d[1];
-            if (isValid(nr, nc)) neighbors.add(new Point(nr, nc));
-        }
-        return neighbors;
-    }
-
-    private boolean isValid(int r, int c) { return r >= 0 && r < rows && c >= 0 && c < cols; }
+    // Didekode sekali di thread audio; play() hanya mengantre, tidak membuka line baru
+    private void playWinSound() { winSound.play(); }
 
     // --- GENERATE MAZE ---
     public void generateMaze(int r, int c) {
         resetTimers(); updateStats(0, 0);
         this.rows = r; this.cols = c;
-        gridType = new int[rows][cols]; parents = new Point[rows][cols];
-        pawnPosition = null;
-        for (int i = 0; i < rows; i++) Arrays.fill(gridType[i], WALL);
-
-        startNode = new Point(1, 1); endNode = new Point(rows - 2, cols - 2);
-        gridType[startNode.x][startNode.y] = GRASS;
-
-        ArrayList<Point> wallList = new ArrayList<>(getHexNeighbors(startNode.x, startNode.y));
-        Random rand = new Random();
-
-        while (!wallList.isEmpty()) {
-            int index = rand.nextInt(wallList.size());
-            Point wall = wallList.remove(index);
-            List<Point> neighbors = getHexNeighbors(wall.x, wall.y);
-            int visitedCount = 0;
-            for (Point n : neighbors) if (gridType[n.x][n.y] != WALL) visitedCount++;
-
-            if (visitedCount == 1) {
-                gridType[wall.x][wall.y] = generateRandomTerrain(rand);
-                for (Point n : neighbors) if (gridType[n.x][n.y] == WALL && !wallList.contains(n)) wallList.add(n);
-            }
-        }
-        gridType[startNode.x][startNode.y] = GRASS; gridType[endNode.x][endNode.y] = GRASS;
-        addMultiplePaths(rand);
+        board = HexGenerator.create(rows, cols, new Random().nextLong());
+        discovered = new byte[rows][cols]; solution = new boolean[rows][cols]; solMaxR = -1;
+        startNode = board.getStart(); endNode = board.getEnd();
+        terrainLayer = null; miniTerrain = miniSearch = miniSolution = null; planner = null; waypoints.clear();
+        zoom = 1; panX = panY = 0;
         pawnPosition = new Point(startNode.x, startNode.y);
         repaint();
     }
 
-    private void addMultiplePaths(Random rand) {
-        int attempts = (rows * cols) / 10;
-        for (int k = 0; k < attempts; k++) {
-            int r = rand.nextInt(rows - 2) + 1; int c = rand.nextInt(cols - 2) + 1;
-            if (gridType[r][c] == WALL) {
-                List<Point> neighbors = getHexNeighbors(r, c);
-                int pathNeighbors = 0;
-                for (Point n : neighbors) if (gridType[n.x][n.y] != WALL) pathNeighbors++;
-                if (pathNeighbors >= 2 && rand.nextDouble() < 0.3) gridType[r][c] = generateRandomTerrain(rand);
-            }
+    // --- EDIT TERRAIN ---
+    private void paintAt(int x, int y) {
+        if (brush < 0) return;
+        int id = cellAt(x, y);
+        if (id < 0 || id == board.start || id == board.end || board.type(id) == brush) return;
+        if (busySolvers.get() > 0) return; // board sedang dibaca solver di worker, edit ditolak
+        if (isSolving) resetTimers(); // replay yang sedang jalan sudah basi
+        int oldCost = board.isWall(id) ? FlowField.UNREACHABLE : board.cost(id);
+        board.setType(id, brush);
+        if (flow != null) flow.cellChanged(id, oldCost); // agen langsung mengikuti arah baru
+        int r = id / cols, c = id % cols;
+        if (miniTerrain != null) miniTerrain.setRGB(c, r, terrainColor(brush).getRGB());
+        if (isMinimap()) layoutW = -1; // cukup satu blit ulang image minimap
+        else if (terrainLayer != null) {
+            Graphics2D g2 = terrainLayer.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setStroke(STROKE_THIN);
+            drawTerrainHex(g2, r, c);
+            g2.dispose();
         }
+        markHexDirty(r, c);
+        if (planner != null) {
+            planner.cellChanged(id);
+            showPath(planner.solve(SearchTrace.disabled()));
+        } else if (solMaxR >= 0) resetVisuals(); // jalur algoritma lain tidak lagi valid
+        scheduler.flush();
     }
 
-    private int generateRandomTerrain(Random rand) {
-        double chance = rand.nextDouble();
-        if (chance < 0.65) return GRASS; if (chance < 0.85) return MUD; return WATER;
+    private void toggleWaypoint(int x, int y) {
+        int id = cellAt(x, y);
+        if (id < 0 || id == board.start || id == board.end || board.isWall(id)) return;
+        if (!waypoints.remove((Integer) id)) waypoints.add(id);
+        repaint(); // nomor waypoint lain ikut bergeser
     }
 
-    // --- ALGORITMA PENCARIAN ---
-    private class Node implements Comparable<Node> {
-        int r, c, g, f; Node parent;
-        Node(int r, int c, int g, int f, Node parent) { this.r = r; this.c = c; this.g = g; this.f = f; this.parent = parent; }
-        @Override public int compareTo(Node other) { return Integer.compare(this.f, other.f); }
+    // Jalur hasil perbaikan langsung ditampilkan tanpa animasi
+    private void showPath(SolveResult result) {
+        if (solMaxR >= 0) scheduler.markDirty(hexBounds(solMinR, solMinC).union(hexBounds(solMaxR, solMaxC)));
+        for (int i = 0; i < rows; i++) Arrays.fill(solution[i], false);
+        solMaxR = -1; miniSolution = null;
+        for (int id : result.path) if (id != board.end) markSolution(id / cols, id % cols);
+        updateStats(result.path.length, result.cost);
+        markPawnDirty(); pawnPosition = result.found() ? new Point(endNode.x, endNode.y) : new Point(startNode.x, startNode.y); markPawnDirty();
     }
 
+    private int cellAt(int x, int y) {
+        int r0 = (int) Math.round((y - offsetY) / (hexHeight * 0.75)), best = -1;
+        double bestD = hexRadius * hexRadius;
+        for (int r = r0 - 1; r <= r0 + 1; r++) {
+            if (r < 0 || r >= rows) continue;
+            double rowShift = (r % 2 != 0) ? hexWidth / 2.0 : 0;
+            int c = (int) Math.round((x - offsetX - rowShift) / hexWidth);
+            if (c < 0 || c >= cols) continue;
+            double dx = x - (offsetX + c * hexWidth + rowShift), dy = y - (offsetY + r * (hexHeight * 0.75));
+            if (dx * dx + dy * dy <= bestD) { bestD = dx * dx + dy * dy; best = r * cols + c; }
+        }
+        return best;
+    }
+
+    // --- ALGORITMA PENCARIAN ---
+    // Pencarian berjalan penuh di worker thread, EDT hanya memutar ulang trace-nya.
     public void solve(String algorithm) {
         if (isSolving) return;
         resetVisuals(); updateStats(0, 0); isSolving = true;
-        parents = new Point[rows][cols];
-
-        final Queue<Node> queue; final Stack<Node> stack;
-        final boolean[][] visited = new boolean[rows][cols];
-        final int[][] dist = new int[rows][cols];
-        for (int[] row : dist) Arrays.fill(row, Integer.MAX_VALUE);
-
-        if (algorithm.equals("DFS")) { stack = new Stack<>(); queue = null; stack.push(new Node(startNode.x, startNode.y, 0, 0, null)); }
-        else if (algorithm.equals("BFS")) { queue = new LinkedList<>(); stack = null; queue.add(new Node(startNode.x, startNode.y, 0, 0, null)); }
-        else { queue = new PriorityQueue<>(); stack = null; queue.add(new Node(startNode.x, startNode.y, 0, 0, null)); dist[startNode.x][startNode.y] = 0; }
-
-        searchTimer = new Timer(delayMs, e -> {
-            boolean isEmpty = (stack != null) ? stack.isEmpty() : queue.isEmpty();
-            if (isEmpty) { searchTimer.stop(); isSolving = false; return; }
-            Node current = (stack != null) ? stack.pop() : queue.poll();
-
-            if (current.r == endNode.x && current.c == endNode.y) { searchTimer.stop(); reconstructPathAnimated(current); return; }
-            if ((algorithm.equals("Dijkstra") || algorithm.equals("A*")) && current.g > dist[current.r][current.c]) return;
-            visited[current.r][current.c] = true;
-
-            List<Point> neighbors = getHexNeighbors(current.r, current.c);
-            if (algorithm.equals("DFS")) Collections.shuffle(neighbors);
-
-            for (Point n : neighbors) {
-                if (gridType[n.x][n.y] != WALL && !visited[n.x][n.y]) {
-                    int moveCost = getCost(n.x, n.y); int newG = current.g + moveCost;
-                    if (algorithm.equals("BFS") || algorithm.equals("DFS")) {
-                        if (parents[n.x][n.y] == null) {
-                            parents[n.x][n.y] = new Point(current.r, current.c);
-                            Node next = new Node(n.x, n.y, 0, 0, current);
-                            if (stack != null) stack.push(next); else queue.add(next);
-                            if (algorithm.equals("BFS")) visited[n.x][n.y] = true;
-                        }
-                    } else {
-                        if (newG < dist[n.x][n.y]) {
-                            dist[n.x][n.y] = newG;
-                            int h = (algorithm.equals("A*")) ? (int)(Math.sqrt(Math.pow(n.x-endNode.x,2)+Math.pow(n.y-endNode.y,2))*COST_GRASS) : 0;
-                            parents[n.x][n.y] = new Point(current.r, current.c);
-                            queue.add(new Node(n.x, n.y, newG, newG + h, current));
-                        }
-                    }
+        final HexBoard snapshot = board;
+        final IncrementalPlanner lpa = algorithm.equals(IncrementalPlanner.ALGORITHM) ? new IncrementalPlanner(snapshot, snapshot.start, snapshot.end) : null;
+        final int[] stops = waypoints.stream().mapToInt(Integer::intValue).toArray();
+        busySolvers.incrementAndGet(); // sebelum execute, supaya tidak ada celah untuk paintAt
+        final AtomicInteger phase = new AtomicInteger(); // 0 antre, 1 jalan, 2 board dilepas
+        solveWorker = new SwingWorker<>() {
+            @Override protected SolveResult doInBackground() {
+                if (!phase.compareAndSet(0, 1)) return null; // sudah di-cancel sebelum sempat jalan
+                try {
+                    if (lpa != null) return lpa.solve(new SearchTrace());
+                    if (algorithm.equals(WaypointPlanner.ALGORITHM)) return WaypointPlanner.plan(snapshot, snapshot.start, stops, snapshot.end);
+                    return HexSolver.solve(snapshot, algorithm);
+                } finally {
+                    phase.set(2); busySolvers.decrementAndGet();
                 }
             }
+            @Override protected void done() {
+                if (phase.compareAndSet(0, 2)) busySolvers.decrementAndGet(); // cancel sebelum doInBackground
+                if (isCancelled() || snapshot != board) return;
+                try { SolveResult res = get(); planner = lpa; replaySearch(res); }
+                catch (InterruptedException | ExecutionException ex) { isSolving = false; }
+            }
+        };
+        solveWorker.execute();
+    }
+
+    // Trace diputar per frame render oleh TracePlayback; sel yang berubah dalam satu frame
+    // dikumpulkan ke satu bounding box supaya biaya repaint tidak tumbuh dengan jumlah node.
+    private void replaySearch(SolveResult result) {
+        TracePlayback.Sink sink = new TracePlayback.Sink() {
+            @Override public void mark(int cell, boolean backward) { setDiscovered(cell, backward ? 2 : 1, true); }
+            @Override public void unmark(int cell, boolean backward) { setDiscovered(cell, backward ? 2 : 1, false); }
+            @Override public void clear() {
+                for (int i = 0; i < rows; i++) Arrays.fill(discovered[i], (byte) 0);
+                replayMaxR = -1; miniSearch = null; repaint();
+            }
+        };
+        playback = new TracePlayback(result.trace, rows * cols, sink, () -> {
+            playback = null; scheduler.setActive(RenderScheduler.SEARCH, false);
+            syncSeekSlider(1, 1);
+            if (result.found()) animatePath(result); else { isSolving = false; repaint(); }
+        }, delayMs, PLAYBACK_BUDGET_NANOS);
+        playback.setSpeed(TracePlayback.SPEEDS[playbackSpeed]);
+        playback.setPaused(playbackPaused);
+        syncSeekSlider(0, playback.nodes());
+        scheduler.setActive(RenderScheduler.SEARCH, !playbackPaused); // saat pause, seek me-repaint sendiri
+    }
+
+    private void setDiscovered(int cell, int bit, boolean on) {
+        int r = cell / cols, c = cell - r * cols;
+        discovered[r][c] = (byte) (on ? discovered[r][c] | bit : discovered[r][c] & ~bit);
+        if (miniSearch != null) miniSearch.setRGB(c, r, searchColor(discovered[r][c]));
+        if (replayMaxR < 0) { replayMinR = replayMaxR = r; replayMinC = replayMaxC = c; }
+        else { replayMinR = Math.min(replayMinR, r); replayMaxR = Math.max(replayMaxR, r); replayMinC = Math.min(replayMinC, c); replayMaxC = Math.max(replayMaxC, c); }
+    }
+
+    public void setPlaybackSpeed(int preset) {
+        playbackSpeed = preset;
+        if (playback != null) playback.setSpeed(TracePlayback.SPEEDS[preset]);
+    }
+
+    /** Pause/lanjut replay; status dipertahankan untuk solve berikutnya. */
+    public boolean togglePlaybackPause() {
+        playbackPaused = !playbackPaused;
+        if (playback != null) { playback.setPaused(playbackPaused); scheduler.setActive(RenderScheduler.SEARCH, !playbackPaused); }
+        return playbackPaused;
+    }
+
+    public void setSeekSlider(JSlider slider) {
+        seekSlider = slider;
+        slider.addChangeListener(e -> {
+            if (syncingSlider || playback == null) return;
+            playback.seek((int) ((long) slider.getValue() * playback.nodes() / slider.getMaximum()));
+            markReplayDirty(); scheduler.flush();
         });
-        searchTimer.start();
     }
 
-    private int getCost(int r, int c) {
-        int t = gridType[r][c]; if (t == GRASS) return COST_GRASS; if (t == MUD) return COST_MUD; if (t == WATER) return COST_WATER; return 1;
+    private void syncSeekSlider(int position, int nodes) {
+        if (seekSlider == null) return;
+        syncingSlider = true;
+        seekSlider.setValue(nodes == 0 ? 0 : (int) ((long) position * seekSlider.getMaximum() / nodes));
+        syncingSlider = false;
     }
 
-    private void reconstructPathAnimated(Node endNode) {
-        ArrayList<Node> finalPath = new ArrayList<>();
-        Node curr = endNode; int totalPathCost = 0;
-        while (curr != null) {
-            finalPath.add(curr); totalPathCost += getCost(curr.r, curr.c);
-            if(curr.parent == null && !(curr.r == startNode.x && curr.c == startNode.y)) {
-                Point p = parents[curr.r][curr.c]; curr = (p != null) ? new Node(p.x, p.y, 0, 0, null) : null;
-            } else curr = curr.parent;
-        }
-        Collections.reverse(finalPath); updateStats(finalPath.size(), totalPathCost);
+    private void markReplayDirty() {
+        if (replayMaxR < 0) return;
+        scheduler.markDirty(hexBounds(replayMinR, replayMinC).union(hexBounds(replayMaxR, replayMaxC)));
+        replayMaxR = -1;
+    }
+
+    private void animatePath(SolveResult result) {
+        int[] finalPath = result.path;
+        updateStats(finalPath.length, result.cost);
         final int[] step = {0};
         pathTimer = new Timer(70, e -> {
-            if (step[0] < finalPath.size()) {
-                Node n = finalPath.get(step[0]); pawnPosition = new Point(n.r, n.c);
-                if (n.r != this.endNode.x || n.c != this.endNode.y) gridType[n.r][n.c] = SOLUTION;
-                if (n.r == this.endNode.x && n.c == this.endNode.y) playWinSound();
+            if (step[0] < finalPath.length) {
+                Point n = new Point(finalPath[step[0]] / cols, finalPath[step[0]] % cols);
+                markPawnDirty(); pawnPosition = n; markPawnDirty();
+                if (step[0] < finalPath.length - 1) markSolution(n.x, n.y); // rute waypoint bisa melewati end di tengah
+                else playWinSound();
                 step[0]++;
-            } else { ((Timer) e.getSource()).stop(); isSolving = false; }
+            } else { ((Timer) e.getSource()).stop(); isSolving = false; scheduler.setActive(RenderScheduler.PATH, false); repaint(); }
         });
+        scheduler.setActive(RenderScheduler.PATH, true);
         pathTimer.start();
     }
 
+    // --- MULTI-PAWN ---
+    public void startCrowd() {
+        if (isSolving) return;
+        resetVisuals(); updateStats(0, 0); isSolving = true;
+        int open = 0;
+        for (int id = 0; id < board.grid.size; id++) if (!board.isWall(id)) open++;
+        crowd = new CooperativePlanner(board, CooperativePlanner.spawnCells(board, Math.min(CROWD_SIZE, open / 3), new Random()), CooperativePlanner.DEFAULT_WINDOW);
+        pawnPosition = null;
+        crowdTimer = new Timer(70, e -> {
+            markCrowdDirty();
+            boolean more = crowd.step(CROWD_BUDGET_NANOS);
+            markCrowdDirty();
+            updateStats(crowd.time(), (int) crowd.totalCost());
+            if (!more) {
+                crowdTimer.stop(); isSolving = false; scheduler.setActive(RenderScheduler.CROWD, false);
+                playWinSound();
+            }
+        });
+        scheduler.setActive(RenderScheduler.CROWD, true);
+        crowdTimer.start();
+        repaint();
+    }
+
+    // --- FLOW FIELD ---
+    public void startFlow() {
+        resetVisuals(); updateStats(0, 0);
+        flow = new FlowField(board);
+        agentCell = new int[FLOW_AGENTS]; agentWait = new byte[FLOW_AGENTS];
+        agentJitterX = new byte[FLOW_AGENTS]; agentJitterY = new byte[FLOW_AGENTS];
+        for (int a = 0; a < FLOW_AGENTS; a++) {
+            agentCell[a] = randomOpenCell();
+            agentJitterX[a] = (byte) flowRand.nextInt(256); agentJitterY[a] = (byte) flowRand.nextInt(256);
+        }
+        flowTicks = 0; flowArrivals = 0; pawnPosition = null;
+        setCostTitle("Arrived:");
+        flowTimer = new Timer(50, e -> {
+            stepFlow();
+            updateStats(flowTicks, flowArrivals);
+        });
+        scheduler.setActive(RenderScheduler.FLOW, true);
+        flowTimer.start();
+    }
+
+    // Agen yang tiba di end (atau terkurung setelah edit) muncul lagi di sel acak. Hanya agen
+    // yang bergerak di dalam viewport yang memperbesar kotak dirty.
+    private void stepFlow() {
+        flowTicks++;
+        int[] v = isMinimap() ? new int[]{0, rows - 1, 0, cols - 1} : visibleCells(new Rectangle(0, 0, getWidth(), getHeight()));
+        int[] box = {Integer.MAX_VALUE, -1, Integer.MAX_VALUE, -1}; // minR, maxR, minC, maxC
+        for (int a = 0; a < agentCell.length; a++) {
+            if (agentWait[a] > 0) { agentWait[a]--; continue; }
+            int cell = agentCell[a], next = flow.next(cell);
+            if (next == cell) {
+                if (cell == board.end) flowArrivals++;
+                next = randomOpenCell();
+            } else agentWait[a] = (byte) (board.cost(next) - 1);
+            agentCell[a] = next;
+            includeVisible(box, cell, v); includeVisible(box, next, v);
+        }
+        if (box[1] < 0) return;
+        Rectangle dirty = hexBounds(box[0], box[2]).union(hexBounds(box[1], box[3]));
+        dirty.grow((int) Math.ceil(hexRadius), (int) Math.ceil(hexRadius)); // jitter + sprite agen
+        scheduler.markDirty(dirty);
+    }
+
+    private void includeVisible(int[] box, int cell, int[] v) {
+        int r = cell / cols, c = cell - r * cols;
+        if (r < v[0] || r > v[1] || c < v[2] || c > v[3]) return;
+        box[0] = Math.min(box[0], r); box[1] = Math.max(box[1], r); box[2] = Math.min(box[2], c); box[3] = Math.max(box[3], c);
+    }
+
+    private int randomOpenCell() {
+        int id;
+        do id = flowRand.nextInt(board.grid.size); while (board.isWall(id) || id == board.end);
+        return id;
+    }
+
+    // v = rentang {r0, r1, c0, c1} yang terlihat; agen di luar viewport tidak digambar
+    private void drawFlowAgents(Graphics2D g2, int[] v) {
+        int size = Math.max(3, (int) (hexRadius * 0.45));
+        if (agentSprite == null || agentSprite.getWidth() != size + 2) {
+            agentSprite = new BufferedImage(size + 2, size + 2, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D sg = agentSprite.createGraphics();
+            sg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            sg.setColor(COL_PAWN); sg.fillOval(1, 1, size, size);
+            sg.setColor(COL_PAWN_BORDER); sg.drawOval(1, 1, size, size);
+            sg.dispose();
+        }
+        double spread = hexRadius * 0.9 / 256.0; int half = agentSprite.getWidth() / 2;
+        for (int a = 0; a < agentCell.length; a++) {
+            int r = agentCell[a] / cols, c = agentCell[a] - r * cols;
+            if (r < v[0] || r > v[1] || c < v[2] || c > v[3]) continue;
+            double cx = offsetX + (c * hexWidth) + ((r & 1) != 0 ? hexWidth / 2.0 : 0) + agentJitterX[a] * spread;
+            double cy = offsetY + (r * (hexHeight * 0.75)) + agentJitterY[a] * spread;
+            g2.drawImage(agentSprite, (int) cx - half, (int) cy - half, null);
+        }
+    }
+
+    private void markCrowdDirty() {
+        for (int a = 0; a < crowd.agentCount(); a++) if (!crowd.isArrived(a)) markHexDirty(crowd.pos[a] / cols, crowd.pos[a] % cols);
+    }
+
+    private void setCostTitle(String title) { if (lblStatCostTitle != null) lblStatCostTitle.setText(title); }
+
     private void updateStats(int steps, int cost) {
         if (lblStatSteps != null && lblStatCost != null) { lblStatSteps.setText(String.valueOf(steps)); lblStatCost.setText(String.valueOf(cost)); }
     }
-    private void resetTimers() { if (searchTimer != null && searchTimer.isRunning()) searchTimer.stop(); if (pathTimer != null && pathTimer.isRunning()) pathTimer.stop(); isSolving = false; }
-    private void resetVisuals() { resetTimers(); for(int i=0;i<rows;i++) for(int j=0;j<cols;j++) if(gridType[i][j]==SOLUTION) gridType[i][j]=GRASS; pawnPosition=new Point(startNode.x, startNode.y); repaint(); }
+    private void resetTimers() {
+        if (solveWorker != null) solveWorker.cancel(true);
+        scheduler.stopAll();
+        playback = null; replayMaxR = -1; if (pathTimer != null && pathTimer.isRunning()) pathTimer.stop(); isSolving = false;
+        if (crowdTimer != null && crowdTimer.isRunning()) crowdTimer.stop(); crowd = null;
+        if (flowTimer != null && flowTimer.isRunning()) flowTimer.stop(); flow = null; agentCell = null; setCostTitle("Cost:");
+    }
+    private void resetVisuals() { resetTimers(); planner = null; for (int i = 0; i < rows; i++) { Arrays.fill(discovered[i], (byte) 0); Arrays.fill(solution[i], false); } solMaxR = -1; miniSearch = miniSolution = null; pawnPosition = new Point(startNode.x, startNode.y); repaint(); }
+
+    // --- RENDER SCHEDULING ---
+    // Dipanggil scheduler tiap frame selama ada animasi: replay trace maju sesuai kecepatan,
+    // yang berdenyut hanya solusi dan pawn.
+    private void onFrame() {
+        animTime += 0.1f; if (animTime > 100) animTime = 0;
+        TracePlayback pb = playback;
+        if (pb != null && pb.frame() > 0) { markReplayDirty(); if (!pb.isFinished()) syncSeekSlider(pb.position(), pb.nodes()); }
+        markPawnDirty();
+        if (!scheduler.isActive(RenderScheduler.PULSE)) return;
+        Rectangle sol = solMaxR >= 0 ? hexBounds(solMinR, solMinC).union(hexBounds(solMaxR, solMaxC)) : null;
+        if (sol == null || System.nanoTime() - pulseUntil > 0) { // berhenti di warna penuh, pawn diam
+            animTime = (float) (Math.PI / 2);
+            scheduler.markDirty(sol); markPawnDirty();
+            scheduler.setActive(RenderScheduler.PULSE, false);
+        } else scheduler.markDirty(sol);
+    }
+
+    private void markSolution(int r, int c) {
+        solution[r][c] = true;
+        if (miniSolution != null) miniSolution.setRGB(c, r, COL_MINI_SOLUTION.getRGB());
+        if (solMaxR < 0) { solMinR = solMaxR = r; solMinC = solMaxC = c; }
+        else { solMinR = Math.min(solMinR, r); solMaxR = Math.max(solMaxR, r); solMinC = Math.min(solMinC, c); solMaxC = Math.max(solMaxC, c); }
+        markHexDirty(r, c);
+        pulseUntil = System.nanoTime() + PULSE_NANOS;
+        scheduler.setActive(RenderScheduler.PULSE, true);
+    }
+
+    private Rectangle hexBounds(int r, int c) {
+        double cx = offsetX + (c * hexWidth) + ((r % 2 != 0) ? hexWidth / 2.0 : 0), cy = offsetY + (r * (hexHeight * 0.75));
+        int rad = (int) Math.ceil(hexRadius) + 2;
+        return new Rectangle((int) cx - rad, (int) cy - rad, 2 * rad, 2 * rad);
+    }
+
+    private void markHexDirty(int r, int c) { scheduler.markDirty(hexBounds(r, c)); }
+
+    // Pawn lebih besar dari hex-nya saat memantul (+-5px) dan punya bayangan
+    private void markPawnDirty() {
+        if (pawnPosition == null) return;
+        Rectangle b = hexBounds(pawnPosition.x, pawnPosition.y);
+        b.grow(4, 8);
+        scheduler.markDirty(b);
+    }
 
     // --- RENDERING ---
     private Point.Double getHexCenter(int r, int c) {
@@ -248,57 +504,225 @@ public class HexMaze extends JPanel {
         return new Point.Double(x, y);
     }
 
-    private Polygon getHexPolygon(double cx, double cy, double radius) {
-        Polygon p = new Polygon();
-        for (int i = 0; i < 6; i++) {
-            double angle_rad = Math.toRadians(30 + (60 * i));
-            p.addPoint((int) (cx + radius * Math.cos(angle_rad)), (int) (cy + radius * Math.sin(angle_rad)));
-        }
+    private Polygon getHexPolygon(double cx, double cy, double radius) { return setHexPolygon(new Polygon(), cx, cy, radius); }
+
+    // Mengisi ulang polygon yang sudah ada supaya loop render tidak mengalokasikan objek baru
+    private Polygon setHexPolygon(Polygon p, double cx, double cy, double radius) {
+        p.reset();
+        for (int i = 0; i < 6; i++) p.addPoint((int) (cx + radius * HEX_COS[i]), (int) (cy + radius * HEX_SIN[i]));
         return p;
     }
 
+    private void updateLayout() {
+        int panelW = getWidth(); int panelH = getHeight();
+        hexWidth = fitHexWidth() * zoom; hexRadius = hexWidth / Math.sqrt(3); hexHeight = 2 * hexRadius;
+        offsetX = centerOffsetX(hexWidth) + panX;
+        offsetY = centerOffsetY(hexWidth) + panY;
+        if (terrainLayer != null && (terrainLayer.getWidth() != panelW || terrainLayer.getHeight() != panelH)) terrainLayer = null;
+    }
+
+    // Tinggi board = hexHeight * (rows * 0.75 + 0.25) dan hexWidth = hexHeight * sqrt(3) / 2,
+    // jadi batas dari tinggi panel harus dikonversi ke lebar sebelum dibandingkan dengan maxW.
+    private double fitHexWidth() {
+        double maxH = (double) getHeight() / (rows * 0.75 + 0.25) * Math.sqrt(3) / 2; double maxW = (double) getWidth() / (cols + 0.5);
+        return Math.min(maxW, maxH);
+    }
+
+    private double centerOffsetX(double w) { return (getWidth() - ((cols * w) + (w / 2))) / 2 + (w / 2); }
+
+    private double centerOffsetY(double w) {
+        double h = 2 * w / Math.sqrt(3);
+        return (getHeight() - ((rows * (h * 0.75)) + (h * 0.25))) / 2 + (h / 2);
+    }
+
+    private boolean isMinimap() { return hexWidth < MINIMAP_HEX_WIDTH; }
+
+    // --- VIEWPORT ---
+    // Zoom di sekitar titik (mx, my): posisi board di bawah kursor tidak bergeser
+    private void zoomAt(int mx, int my, double factor) {
+        double fit = fitHexWidth();
+        if (fit <= 0) return;
+        double next = Math.max(1, Math.min(zoom * factor, Math.max(1, MAX_HEX_WIDTH / fit)));
+        if (next == zoom) return;
+        double w = fit * zoom, nw = fit * next;
+        double ux = (mx - offsetX) / w, uy = (my - offsetY) / w;
+        zoom = next;
+        panX = (mx - ux * nw) - centerOffsetX(nw);
+        panY = (my - uy * nw) - centerOffsetY(nw);
+        clampPan(nw);
+        repaint();
+    }
+
+    private void panBy(int dx, int dy) {
+        if (zoom == 1) return;
+        panX += dx; panY += dy;
+        clampPan(fitHexWidth() * zoom);
+        repaint();
+    }
+
+    // Pusat panel tidak boleh keluar dari board
+    private void clampPan(double w) {
+        double halfW = cols * w / 2, halfH = rows * (w / Math.sqrt(3)) * 1.5 / 2;
+        panX = Math.max(-halfW, Math.min(halfW, panX)); panY = Math.max(-halfH, Math.min(halfH, panY));
+    }
+
+    public void resetView() { zoom = 1; panX = panY = 0; repaint(); }
+
+    /** Rentang {r0, r1, c0, c1} hex yang bisa menyentuh area layar, sudah dijepit ke board. */
+    private int[] visibleCells(Rectangle area) {
+        int r0 = Math.max(0, (int) Math.floor((area.y - offsetY - hexRadius) / (hexHeight * 0.75)));
+        int r1 = Math.min(rows - 1, (int) Math.ceil((area.y + area.height - offsetY + hexRadius) / (hexHeight * 0.75)));
+        int c0 = Math.max(0, (int) Math.floor((area.x - offsetX - hexWidth) / hexWidth));
+        int c1 = Math.min(cols - 1, (int) Math.ceil((area.x + area.width - offsetX + hexWidth) / hexWidth));
+        return new int[]{r0, r1, c0, c1};
+    }
+
+    // Kotak layar yang ditempati board, dipakai saat menggambar image minimap
+    private Rectangle boardRect() {
+        int x = (int) Math.floor(offsetX - hexWidth / 2), y = (int) Math.floor(offsetY - hexRadius);
+        return new Rectangle(x, y, (int) Math.ceil((cols + 0.5) * hexWidth), (int) Math.ceil((rows * 0.75 + 0.25) * hexHeight));
+    }
+
+    private BufferedImage buildMiniImage(int kind) {
+        BufferedImage img = new BufferedImage(cols, rows, kind == 0 ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        int[] line = new int[cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (kind == 0) line[c] = terrainColor(board.getType(r, c)).getRGB();
+                else if (kind == 1) line[c] = searchColor(discovered[r][c]);
+                else line[c] = solution[r][c] ? COL_MINI_SOLUTION.getRGB() : 0;
+            }
+            img.setRGB(0, r, cols, 1, line, 0, cols);
+        }
+        return img;
+    }
+
+    private Color terrainColor(int type) {
+        if (type == HexBoard.WALL) return COL_WALL;
+        if (type == HexBoard.WATER) return COL_WATER;
+        return type == HexBoard.MUD ? COL_MUD : COL_GRASS;
+    }
+
+    private int searchColor(byte d) { return d == 0 ? 0 : ((d & 2) != 0 ? COL_VISITED_BACK : COL_VISITED).getRGB(); }
+
+    private void drawMini(Graphics2D g2, BufferedImage img) {
+        Rectangle b = boardRect();
+        g2.drawImage(img, b.x, b.y, b.width, b.height, null);
+    }
+
+    // Dinding & terrain dirender ke image cache seukuran panel, ulang hanya saat view berubah;
+    // yang digambar hanya hex yang terlihat, atau image minimap bila hex terlalu kecil
+    private void renderTerrainLayer(int w, int h) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (terrainLayer == null || terrainLayer.getWidth() != w || terrainLayer.getHeight() != h)
+            terrainLayer = (gc != null) ? gc.createCompatibleImage(w, h) : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        layoutW = hexWidth; layoutX = offsetX; layoutY = offsetY;
+        Graphics2D g2 = terrainLayer.createGraphics();
+        g2.setColor(COL_BG); g2.fillRect(0, 0, w, h);
+        if (isMinimap()) {
+            if (miniTerrain == null) miniTerrain = buildMiniImage(0);
+            drawMini(g2, miniTerrain);
+        } else {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setStroke(STROKE_THIN);
+            int[] v = visibleCells(new Rectangle(0, 0, w, h));
+            for (int r = v[0]; r <= v[1]; r++) for (int c = v[2]; c <= v[3]; c++) drawTerrainHex(g2, r, c);
+        }
+        g2.dispose();
+    }
+
+    private void drawTerrainHex(Graphics2D g2, int r, int c) {
+        double cx = offsetX + (c * hexWidth) + ((r % 2 != 0) ? hexWidth / 2.0 : 0), cy = offsetY + (r * (hexHeight * 0.75));
+        setHexPolygon(scratchPoly, cx, cy, hexRadius);
+        int type = board.getType(r, c);
+        if (type == HexBoard.WALL) { g2.setColor(COL_WALL); g2.fillPolygon(scratchPoly); g2.setColor(COL_WALL_BORDER); g2.drawPolygon(scratchPoly); }
+        else {
+            if (type == HexBoard.WATER) g2.setColor(COL_WATER); else if (type == HexBoard.MUD) g2.setColor(COL_MUD); else g2.setColor(COL_GRASS);
+            g2.fillPolygon(scratchPoly);
+            g2.setColor(COL_HEX_EDGE); g2.drawPolygon(scratchPoly);
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
+        MazeEvents.Paint event = new MazeEvents.Paint();
+        event.begin();
         super.paintComponent(g); Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        int panelW = getWidth(); int panelH = getHeight();
-        double maxH = (double) panelH / (rows * 0.75 + 0.25); double maxW = (double) panelW / (cols + 0.5);
-        hexWidth = Math.min(maxW, maxH); hexRadius = hexWidth / Math.sqrt(3); hexHeight = 2 * hexRadius;
-        offsetX = (panelW - ((cols * hexWidth) + (hexWidth/2))) / 2 + (hexWidth/2);
-        offsetY = (panelH - ((rows * (hexHeight * 0.75)) + (hexHeight * 0.25))) / 2 + (hexRadius);
+        updateLayout();
+        if (getWidth() <= 0 || getHeight() <= 0) return;
+        boolean rebuilt = terrainLayer == null || layoutW != hexWidth || layoutX != offsetX || layoutY != offsetY;
+        if (rebuilt) renderTerrainLayer(getWidth(), getHeight());
+        g2.drawImage(terrainLayer, 0, 0, null);
+        paintOverlay(g2);
+        if (event.shouldCommit()) {
+            Rectangle clip = g2.getClipBounds();
+            event.clipWidth = clip == null ? getWidth() : clip.width; event.clipHeight = clip == null ? getHeight() : clip.height;
+            event.minimap = isMinimap(); event.terrainRebuilt = rebuilt;
+            event.commit();
+        }
+    }
 
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Point.Double center = getHexCenter(r, c); Polygon poly = getHexPolygon(center.x, center.y, hexRadius);
-                int type = gridType[r][c];
-                if (type == WALL) { g2.setColor(COL_WALL); g2.fillPolygon(poly); g2.setColor(COL_WALL_BORDER); g2.setStroke(new BasicStroke(1f)); g2.drawPolygon(poly); }
-                else {
-                    if (type == WATER) g2.setColor(COL_WATER); else if (type == MUD) g2.setColor(COL_MUD); else g2.setColor(COL_GRASS);
-                    g2.fillPolygon(poly);
-                    if (isSolving && parents != null && parents[r][c] != null && type != SOLUTION) {
-                        g2.setColor(COL_VISITED); g2.fillPolygon(poly); g2.setColor(COL_VISITED_BORDER); g2.setStroke(new BasicStroke(1.5f)); g2.drawPolygon(poly);
-                    }
-                    if (type == SOLUTION) {
-                        float pulse = (float) (Math.sin(animTime) * 0.5 + 0.5); g2.setColor(new Color(255, 0, 255, (int)(150 + (pulse * 105))));
-                        g2.fillPolygon(poly); g2.setColor(new Color(255,255,255,100)); g2.fillPolygon(getHexPolygon(center.x, center.y, hexRadius * 0.5));
-                    }
-                    g2.setColor(new Color(0,0,0,50)); g2.setStroke(new BasicStroke(1f)); g2.drawPolygon(poly);
+    private void paintOverlay(Graphics2D g2) {
+
+        // Overlay dinamis: sel yang dikunjungi dan jalur solusi yang berdenyut
+        float pulse = (float) (Math.sin(animTime) * 0.5 + 0.5);
+        Color solutionColor = new Color(255, 0, 255, (int)(150 + (pulse * 105)));
+        // Hanya baris/kolom yang menyentuh area clip, jadi repaint dirty kecil tetap murah
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        int[] v = isMinimap() ? new int[]{0, -1, 0, -1} : visibleCells(clip);
+        if (isMinimap()) {
+            if (isSolving) { if (miniSearch == null) miniSearch = buildMiniImage(1); drawMini(g2, miniSearch); }
+            if (solMaxR >= 0) { if (miniSolution == null) miniSolution = buildMiniImage(2); drawMini(g2, miniSolution); }
+        }
+        for (int r = v[0]; r <= v[1]; r++) {
+            byte[] discRow = discovered[r]; boolean[] solRow = solution[r];
+            for (int c = v[2]; c <= v[3]; c++) {
+                boolean visitedHex = isSolving && discRow[c] != 0 && !solRow[c];
+                if (!visitedHex && !solRow[c]) continue;
+                double cx = offsetX + (c * hexWidth) + ((r % 2 != 0) ? hexWidth / 2.0 : 0), cy = offsetY + (r * (hexHeight * 0.75));
+                setHexPolygon(scratchPoly, cx, cy, hexRadius);
+                if (visitedHex) {
+                    boolean back = (discRow[c] & 2) != 0;
+                    g2.setColor(back ? COL_VISITED_BACK : COL_VISITED); g2.fillPolygon(scratchPoly);
+                    g2.setColor(back ? COL_VISITED_BACK_BORDER : COL_VISITED_BORDER); g2.setStroke(STROKE_VISITED); g2.drawPolygon(scratchPoly);
+                } else {
+                    g2.setColor(solutionColor); g2.fillPolygon(scratchPoly);
+                    g2.setColor(COL_SOLUTION_CORE); g2.fillPolygon(setHexPolygon(scratchCore, cx, cy, hexRadius * 0.5));
                 }
+                g2.setColor(COL_HEX_EDGE); g2.setStroke(STROKE_THIN); g2.drawPolygon(scratchPoly);
             }
         }
         drawSpecialHex(g2, startNode, COL_START, "S"); drawSpecialHex(g2, endNode, COL_FINISH_RED, "E");
+        for (int i = 0; i < waypoints.size(); i++) {
+            int id = waypoints.get(i);
+            drawSpecialHex(g2, new Point(id / cols, id % cols), COL_WAYPOINT, String.valueOf(i + 1));
+        }
+        if (agentCell != null) drawFlowAgents(g2, isMinimap() ? new int[]{0, rows - 1, 0, cols - 1} : v);
+        if (crowd != null) {
+            int size = Math.max(2, (int) (hexRadius * 0.9));
+            g2.setStroke(STROKE_THIN);
+            for (int a = 0; a < crowd.agentCount(); a++) {
+                if (crowd.isArrived(a)) continue;
+                Point.Double p = getHexCenter(crowd.pos[a] / cols, crowd.pos[a] % cols);
+                g2.setColor(COL_PAWN); g2.fillOval((int) p.x - size / 2, (int) p.y - size / 2, size, size);
+                g2.setColor(COL_PAWN_BORDER); g2.drawOval((int) p.x - size / 2, (int) p.y - size / 2, size, size);
+            }
+        }
         if (pawnPosition != null) {
             Point.Double p = getHexCenter(pawnPosition.x, pawnPosition.y); int bounce = (int)(Math.sin(animTime * 2) * 5); int pawnSize = (int)(hexRadius * 1.2);
             g2.setColor(Color.BLACK); g2.fillOval((int)p.x - pawnSize/2 + 2, (int)p.y - pawnSize/2 + 2 - bounce, pawnSize, pawnSize);
             g2.setColor(COL_PAWN); g2.fillOval((int)p.x - pawnSize/2, (int)p.y - pawnSize/2 - bounce, pawnSize, pawnSize);
-            g2.setColor(COL_PAWN_BORDER); g2.setStroke(new BasicStroke(2)); g2.drawOval((int)p.x - pawnSize/2, (int)p.y - pawnSize/2 - bounce, pawnSize, pawnSize);
+            g2.setColor(COL_PAWN_BORDER); g2.setStroke(STROKE_BOLD); g2.drawOval((int)p.x - pawnSize/2, (int)p.y - pawnSize/2 - bounce, pawnSize, pawnSize);
         }
     }
 
     private void drawSpecialHex(Graphics2D g2, Point pt, Color c, String text) {
         Point.Double center = getHexCenter(pt.x, pt.y); Polygon poly = getHexPolygon(center.x, center.y, hexRadius * 0.8);
-        g2.setColor(c); g2.fillPolygon(poly); g2.setColor(Color.WHITE); g2.setStroke(new BasicStroke(2)); g2.drawPolygon(poly);
-        g2.setColor(Color.BLACK); g2.setFont(new Font("Segoe UI", Font.BOLD, (int)(hexRadius)));
+        g2.setColor(c); g2.fillPolygon(poly); g2.setColor(Color.WHITE); g2.setStroke(STROKE_BOLD); g2.drawPolygon(poly);
+        if (labelFont == null || labelFont.getSize() != (int) hexRadius) labelFont = new Font("Segoe UI", Font.BOLD, (int)(hexRadius));
+        g2.setColor(Color.BLACK); g2.setFont(labelFont);
         FontMetrics fm = g2.getFontMetrics(); g2.drawString(text, (int)center.x - fm.stringWidth(text)/2, (int)center.y + fm.getAscent()/3);
     }
 
@@ -314,7 +738,6 @@ public class HexMaze extends JPanel {
         sidebar.setLayout(new BoxLayout(sidebar, BoxLayout.Y_AXIS));
         sidebar.setBackground(new Color(20, 20, 30));
         sidebar.setBorder(new EmptyBorder(20, 20, 20, 20));
-        sidebar.setPreferredSize(new Dimension(260, 0)); // Sedikit lebih lebar
 
         // 1. Title
         JLabel titleLbl = new JLabel("GAME SETTINGS");
@@ -324,7 +747,7 @@ public class HexMaze extends JPanel {
 
         // 2. Level Selector (Combobox style lama)
         // Ukuran disesuaikan untuk Hexagon tapi teks mirip original
-        String[] levels = {"Easy (15x15)", "Medium (25x25)", "Hard (35x35)"};
+        String[] levels = {"Easy (15x15)", "Medium (25x25)", "Hard (35x35)", "Huge (200x200)", "Giant (1000x1000)"};
         ModernComboBox comboLevel = new ModernComboBox(levels);
         comboLevel.setMaximumSize(new Dimension(220, 35));
         comboLevel.setSelectedIndex(1); // Default Medium
@@ -332,7 +755,9 @@ public class HexMaze extends JPanel {
             int idx = comboLevel.getSelectedIndex();
             if (idx == 0) game.generateMaze(15, 15);
             else if (idx == 1) game.generateMaze(25, 25);
-            else game.generateMaze(35, 35);
+            else if (idx == 2) game.generateMaze(35, 35);
+            else if (idx == 3) game.generateMaze(200, 200);
+            else game.generateMaze(1000, 1000); // zoom dengan roda mouse, geser dengan drag
         });
 
         // 3. Legend Panel (Style lama dengan border)
@@ -355,7 +780,7 @@ public class HexMaze extends JPanel {
         JLabel t2 = new JLabel("Cost:"); t2.setForeground(Color.LIGHT_GRAY);
         statsPanel.add(t1); statsPanel.add(lblStepsVal);
         statsPanel.add(t2); statsPanel.add(lblCostVal);
-        game.setStatLabels(lblStepsVal, lblCostVal);
+        game.setStatLabels(lblStepsVal, lblCostVal, t2);
 
         // 5. Buttons & Headers (Bagian baru yang diminta)
         JButton btnGen = new NeonButton("GENERATE MAZE", new Color(100, 100, 100));
@@ -363,12 +788,46 @@ public class HexMaze extends JPanel {
         JButton btnDFS = new NeonButton("Solve DFS", new Color(200, 100, 0));
         JButton btnDijkstra = new NeonButton("Solve Dijkstra", new Color(150, 0, 150));
         JButton btnAStar = new NeonButton("Solve A*", new Color(0, 200, 100));
+        JButton btnHpa = new NeonButton("Solve HPA*", new Color(0, 140, 140));
+        JButton btnField = new NeonButton("Distance Field", new Color(90, 60, 170));
+        JButton btnLpa = new NeonButton("Solve LPA* (live)", new Color(170, 130, 0));
+        JButton btnRoute = new NeonButton("Route via Waypoints", new Color(0, 170, 220));
+        JButton btnCrowd = new NeonButton("Crowd (" + CROWD_SIZE + " Pawns)", new Color(200, 170, 0));
+        JButton btnFlow = new NeonButton("Flow Field (" + FLOW_AGENTS / 1000 + "k Agents)", new Color(220, 120, 0));
+        JButton btnBiBFS = new NeonButton("Bi-BFS", new Color(0, 110, 160));
+        JButton btnBiDijkstra = new NeonButton("Bi-Dijkstra", new Color(120, 0, 120));
+        JButton btnBiAStar = new NeonButton("Bi-A*", new Color(0, 160, 80));
 
         btnGen.addActionListener(e -> game.generateMaze(game.rows, game.cols));
         btnBFS.addActionListener(e -> game.solve("BFS"));
         btnDFS.addActionListener(e -> game.solve("DFS"));
         btnDijkstra.addActionListener(e -> game.solve("Dijkstra"));
         btnAStar.addActionListener(e -> game.solve("A*"));
+        btnHpa.addActionListener(e -> game.solve(HierarchicalPathfinder.ALGORITHM));
+        btnField.addActionListener(e -> game.solve(DistanceField.ALGORITHM));
+        btnLpa.addActionListener(e -> game.solve(IncrementalPlanner.ALGORITHM));
+        btnRoute.addActionListener(e -> game.solve(WaypointPlanner.ALGORITHM));
+        btnCrowd.addActionListener(e -> game.startCrowd());
+        btnFlow.addActionListener(e -> game.startFlow());
+
+        // Kuas terrain: klik/drag di maze mengecat sel, jalur LPA* diperbaiki per edit
+        String[] brushes = {"Paint: Off", "Paint: Grass", "Paint: Mud", "Paint: Water", "Paint: Wall", "Mark: Waypoint"};
+        int[] brushTypes = {-1, HexBoard.GRASS, HexBoard.MUD, HexBoard.WATER, HexBoard.WALL, BRUSH_WAYPOINT};
+        ModernComboBox comboBrush = new ModernComboBox(brushes);
+        comboBrush.setMaximumSize(new Dimension(220, 35));
+        comboBrush.addActionListener(e -> game.setBrush(brushTypes[comboBrush.getSelectedIndex()]));
+        // Kontrol replay: kecepatan, pause dan seek di trace yang sedang diputar
+        ModernComboBox comboSpeed = new ModernComboBox(TracePlayback.SPEED_NAMES);
+        comboSpeed.setMaximumSize(new Dimension(220, 35));
+        comboSpeed.addActionListener(e -> game.setPlaybackSpeed(comboSpeed.getSelectedIndex()));
+        JButton btnPause = new NeonButton("Pause", new Color(90, 90, 120));
+        btnPause.addActionListener(e -> btnPause.setText(game.togglePlaybackPause() ? "Resume" : "Pause"));
+        JSlider seek = new JSlider(0, 1000, 0);
+        seek.setOpaque(false); seek.setMaximumSize(new Dimension(220, 30));
+        game.setSeekSlider(seek);
+        btnBiBFS.addActionListener(e -> game.solve("Bi-BFS"));
+        btnBiDijkstra.addActionListener(e -> game.solve("Bi-Dijkstra"));
+        btnBiAStar.addActionListener(e -> game.solve("Bi-A*"));
 
         // --- MENYUSUN SIDEBAR ---
         sidebar.add(titleLbl); sidebar.add(Box.createVerticalStrut(20));
@@ -378,6 +837,17 @@ public class HexMaze extends JPanel {
         sidebar.add(btnGen);
         sidebar.add(Box.createVerticalStrut(20));
 
+        // Header Playback
+        JLabel lblPlay = new JLabel("Playback:");
+        lblPlay.setForeground(Color.GRAY); lblPlay.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lblPlay.setAlignmentX(Component.CENTER_ALIGNMENT);
+        sidebar.add(lblPlay);
+        sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(comboSpeed); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnPause); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(seek);
+        sidebar.add(Box.createVerticalStrut(15));
+
         // Header Unweighted
         JLabel lblUn = new JLabel("Unweighted Algos:");
         lblUn.setForeground(Color.GRAY); lblUn.setFont(new Font("Segoe UI", Font.PLAIN, 12));
@@ -395,11 +865,50 @@ public class HexMaze extends JPanel {
         sidebar.add(lblWei);
         sidebar.add(Box.createVerticalStrut(5));
         sidebar.add(btnDijkstra); sidebar.add(Box.createVerticalStrut(5));
-        sidebar.add(btnAStar);
+        sidebar.add(btnAStar); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnHpa); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnField);
+
+        // Header Bidirectional (frontier dari end digambar oranye)
+        sidebar.add(Box.createVerticalStrut(15));
+        JLabel lblBi = new JLabel("Bidirectional:");
+        lblBi.setForeground(Color.GRAY); lblBi.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lblBi.setAlignmentX(Component.CENTER_ALIGNMENT);
+        sidebar.add(lblBi);
+        sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnBiBFS); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnBiDijkstra); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnBiAStar);
+
+        // Header Edit
+        sidebar.add(Box.createVerticalStrut(15));
+        JLabel lblEdit = new JLabel("Edit Terrain:");
+        lblEdit.setForeground(Color.GRAY); lblEdit.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lblEdit.setAlignmentX(Component.CENTER_ALIGNMENT);
+        sidebar.add(lblEdit);
+        sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(comboBrush); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnLpa); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnRoute);
+
+        // Header Multi-Agent
+        sidebar.add(Box.createVerticalStrut(15));
+        JLabel lblMulti = new JLabel("Multi-Agent:");
+        lblMulti.setForeground(Color.GRAY); lblMulti.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lblMulti.setAlignmentX(Component.CENTER_ALIGNMENT);
+        sidebar.add(lblMulti);
+        sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnCrowd); sidebar.add(Box.createVerticalStrut(5));
+        sidebar.add(btnFlow);
 
         frame.setLayout(new BorderLayout());
         frame.add(game, BorderLayout.CENTER);
-        frame.add(sidebar, BorderLayout.EAST);
+        // Kontrol sudah lebih tinggi dari jendela 800px, jadi sidebar di-scroll vertikal
+        JScrollPane sideScroll = new JScrollPane(sidebar, ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        sideScroll.setBorder(null);
+        sideScroll.getVerticalScrollBar().setUnitIncrement(16);
+        sideScroll.setPreferredSize(new Dimension(260 + sideScroll.getVerticalScrollBar().getPreferredSize().width, 0)); // Sedikit lebih lebar
+        frame.add(sideScroll, BorderLayout.EAST);
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setSize(1200, 800);
         frame.setLocationRelativeTo(null);
@@ -0,0 +1,166 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * Solver headless untuk {@link HexBoard}. Setiap algoritma dijalankan sampai selesai
+ * dengan kecepatan penuh; animasi di panel cukup memutar ulang {@link SearchTrace}.
+ */
+public final class HexSolver {
+
+    public static final String[] ALGORITHMS = {"BFS", "DFS", "Dijkstra", "A*"};
+    public static final String[] BIDIRECTIONAL = {"Bi-BFS", "Bi-Dijkstra", "Bi-A*"};
+
+    // A* dengan heuristik Euclidean pada koordinat offset (versi lama), hanya untuk perbandingan
+    public static final String A_STAR_EUCLID = "A*-Euclid";
+
+    private static final int H_NONE = 0, H_EUCLID = 1, H_HEX = 2;
+
+    private HexSolver() {}
+
+    public static SolveResult solve(HexBoard board, String algorithm) { return solve(board, algorithm, new Random()); }
+
+    public static SolveResult solve(HexBoard board, String algorithm, Random rand) { return solve(board, algorithm, rand, true); }
+
+    public static SolveResult solve(HexBoard board, String algorithm, Random rand, boolean recordTrace) {
+        return solve(board, algorithm, board.start, board.end, rand, recordTrace);
+    }
+
+    /**
+     * Mencari jalur antara dua sel sembarang (id), misalnya untuk start alternatif. Setiap solve
+     * dicatat ke {@link SolverStats} (JMX) dan, bila recording aktif, sebagai event JFR.
+     */
+    public static SolveResult solve(HexBoard board, String algorithm, int from, int to, Random rand, boolean recordTrace) {
+        MazeEvents.Solve event = new MazeEvents.Solve();
+        event.begin();
+        int[] peak = new int[1];
+        SolveResult res = run(board, algorithm, from, to, rand, recordTrace, peak);
+        SolverStats.INSTANCE.record(res.algorithm, res.expanded, peak[0], res.nanos);
+        if (event.shouldCommit()) {
+            event.algorithm = res.algorithm; event.cells = board.grid.size; event.expanded = res.expanded;
+            event.peakFrontier = peak[0]; event.pathLength = res.path.length; event.cost = res.cost;
+            event.commit();
+        }
+        return res;
+    }
+
+    // peak[0] diisi ukuran frontier terbesar oleh solver yang melacaknya
+    private static SolveResult run(HexBoard board, String algorithm, int from, int to, Random rand, boolean recordTrace, int[] peak) {
+        long t0 = System.nanoTime();
+        SearchTrace trace = recordTrace ? new SearchTrace() : SearchTrace.disabled();
+        int[] parent = new int[board.grid.size];
+        Arrays.fill(parent, -1);
+        int expanded;
+        switch (algorithm) {
+            case "BFS": expanded = unweighted(board, from, to, false, rand, parent, trace, peak); break;
+            case "DFS": expanded = unweighted(board, from, to, true, rand, parent, trace, peak); break;
+            case "Dijkstra": expanded = weighted(board, from, to, H_NONE, parent, trace, peak); break;
+            case "A*": expanded = weighted(board, from, to, H_HEX, parent, trace, peak); break;
+            case A_STAR_EUCLID: expanded = weighted(board, from, to, H_EUCLID, parent, trace, peak); break;
+            case "Bi-BFS": return BidirectionalSearch.bfs(board, algorithm, from, to, trace, t0);
+            case "Bi-Dijkstra": return BidirectionalSearch.weighted(board, algorithm, from, to, false, trace, t0);
+            case "Bi-A*": return BidirectionalSearch.weighted(board, algorithm, from, to, true, trace, t0);
+            case HierarchicalPathfinder.ALGORITHM: return board.hierarchy().query(from, to, trace);
+            case IncrementalPlanner.ALGORITHM: return new IncrementalPlanner(board, from, to).solve(trace);
+            case DistanceField.ALGORITHM:
+                if (to == board.end) return board.distanceField().query(from, trace, t0);
+                expanded = weighted(board, from, to, H_NONE, parent, trace, peak); break; // field hanya menuju end
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        return buildResult(board, algorithm, from, to, parent, expanded, System.nanoTime() - t0, trace);
+    }
+
+    // --- BFS & DFS ---
+    // Setiap sel masuk frontier paling banyak sekali, jadi cukup satu int[] sebagai queue/stack.
+    private static int unweighted(HexBoard board, int from, int to, boolean dfs, Random rand, int[] parent, SearchTrace trace, int[] peak) {
+        HexGrid grid = board.grid;
+        int[] frontier = new int[grid.size];
+        boolean[] visited = new boolean[grid.size];
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        int head = 0, tail = 0, expanded = 0, maxFrontier = 0;
+        frontier[tail++] = from;
+        parent[from] = from;
+
+        while (tail > head) {
+            if (tail - head > maxFrontier) maxFrontier = tail - head;
+            int current = dfs ? frontier[--tail] : frontier[head++];
+            if (current == to) break;
+            visited[current] = true;
+            expanded++; trace.add(SearchTrace.EXPAND, current);
+
+            int deg = grid.neighbors(current, nbr);
+            if (dfs) shuffle(nbr, deg, rand);
+            for (int k = 0; k < deg; k++) {
+                int n = nbr[k];
+                if (board.isWall(n) || visited[n] || parent[n] != -1) continue;
+                parent[n] = current;
+                frontier[tail++] = n;
+                if (!dfs) visited[n] = true;
+                trace.add(SearchTrace.DISCOVER, n);
+            }
+        }
+        peak[0] = maxFrontier;
+        return expanded;
+    }
+
+    // --- DIJKSTRA & A* ---
+    // dist/parent flat int[] dan open set berupa IndexedHeap: relaksasi memakai decrease-key,
+    // tidak ada entri basi dan tidak ada alokasi di dalam loop.
+    private static int weighted(HexBoard board, int from, int to, int heuristic, int[] parent, SearchTrace trace, int[] peak) {
+        HexGrid grid = board.grid;
+        int cols = grid.cols, endR = to / cols, endC = to % cols;
+        int[] dist = new int[grid.size];
+        boolean[] closed = new boolean[grid.size];
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        IndexedHeap open = new IndexedHeap(grid.size);
+        dist[from] = 0; parent[from] = from;
+        open.update(from, 0);
+        int expanded = 0, maxFrontier = 0;
+
+        while (!open.isEmpty()) {
+            if (open.size() > maxFrontier) maxFrontier = open.size();
+            int current = open.pop();
+            if (current == to) break;
+            closed[current] = true;
+            expanded++; trace.add(SearchTrace.EXPAND, current);
+
+            int deg = grid.neighbors(current, nbr);
+            for (int k = 0; k < deg; k++) {
+                int n = nbr[k];
+                if (board.isWall(n) || closed[n]) continue;
+                int newG = dist[current] + board.cost(n);
+                if (newG < dist[n]) {
+                    dist[n] = newG;
+                    int h = heuristic == H_NONE ? 0 : heuristic(heuristic, n / cols, n % cols, endR, endC);
+                    parent[n] = current;
+                    open.update(n, newG + h);
+                    trace.add(SearchTrace.DISCOVER, n);
+                }
+            }
+        }
+        peak[0] = maxFrontier;
+        return expanded;
+    }
+
+    // Jarak hex eksak dikali biaya terrain minimum: admissible dan konsisten. Euclidean pada
+    // (row, col) offset bisa melebihi jarak langkah sebenarnya di jalur diagonal panjang.
+    private static int heuristic(int heuristic, int r, int c, int endR, int endC) {
+        if (heuristic == H_HEX) return HexGrid.hexDistance(r, c, endR, endC) * HexBoard.MIN_COST;
+        int dr = r - endR, dc = c - endC;
+        return (int) (Math.sqrt(dr * dr + dc * dc) * HexBoard.COST_GRASS);
+    }
+
+    private static void shuffle(int[] a, int len, Random rand) {
+        for (int i = len - 1; i > 0; i--) { int j = rand.nextInt(i + 1); int t = a[i]; a[i] = a[j]; a[j] = t; }
+    }
+
+    private static SolveResult buildResult(HexBoard board, String algorithm, int from, int to, int[] parent, int expanded, long nanos, SearchTrace trace) {
+        if (parent[to] == -1) return new SolveResult(algorithm, new int[0], 0, expanded, nanos, trace);
+        int len = 1;
+        for (int v = to; v != from; v = parent[v]) len++;
+        int[] path = new int[len]; int cost = 0;
+        for (int v = to, i = len - 1; i >= 0; v = parent[v], i--) { path[i] = v; cost += board.cost(v); }
+        return new SolveResult(algorithm, path, cost, expanded, nanos, trace);
+    }
+}
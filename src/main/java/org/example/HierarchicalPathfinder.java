@@ -0,0 +1,278 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * HPA* untuk maze hex yang sangat besar. Grid dibagi menjadi cluster persegi
+ * {@code clusterSize x clusterSize}; di setiap run sel terbuka yang melintasi batas dua
+ * cluster dipilih satu transisi (sel tengah run) sebagai node abstrak di kedua sisi.
+ * Biaya antar-node dalam satu cluster dihitung sekali per maze dengan Dijkstra yang
+ * dibatasi ke cluster itu, paralel per cluster.
+ * <p>
+ * Query: start dan end disambungkan ke node di cluster masing-masing, A* berjalan di
+ * graf abstrak, lalu setiap segmen intra-cluster diperhalus kembali menjadi sel. Karena
+ * hanya satu transisi per run, jalurnya bisa sedikit lebih mahal dari optimal: untuk
+ * start -> end pada maze generator paling banyak 5% (rata-rata &lt; 1%), untuk pasangan sel
+ * sembarang yang berdekatan lintas cluster paling banyak 25%. Keduanya diuji di
+ * HierarchicalPathfinderTest.
+ */
+public final class HierarchicalPathfinder {
+
+    public static final String ALGORITHM = "HPA*";
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int MARKED = -2; // sel transisi yang belum diberi nomor node
+
+    private final HexBoard board;
+    private final HexGrid grid;
+    private final int clusterSize, clusterRows, clusterCols;
+
+    // --- GRAF ABSTRAK ---
+    private final int[] nodeCell;          // node -> id sel, terurut per cluster
+    private final int[] nodeOfCell;        // id sel -> node, -1 jika bukan node
+    private final int[] clusterNodeStart;  // cluster -> potongan node (CSR)
+    private final int[][] clusterDist;     // cluster -> matriks k x k biaya intra (INF = tak terhubung)
+    private final int[] interStart, interTo, interCost; // edge antar-cluster per node (CSR)
+    private final long preprocessNanos;
+
+    private final ThreadLocal<ClusterSearch> workspace;
+
+    public HierarchicalPathfinder(HexBoard board) { this(board, DEFAULT_CLUSTER_SIZE); }
+
+    public HierarchicalPathfinder(HexBoard board, int clusterSize) {
+        long t0 = System.nanoTime();
+        if (clusterSize < 2) throw new IllegalArgumentException("Cluster size must be >= 2: " + clusterSize);
+        this.board = board; this.grid = board.grid; this.clusterSize = clusterSize;
+        clusterRows = (grid.rows + clusterSize - 1) / clusterSize;
+        clusterCols = (grid.cols + clusterSize - 1) / clusterSize;
+        workspace = ThreadLocal.withInitial(() -> new ClusterSearch(clusterSize));
+        int clusters = clusterRows * clusterCols;
+
+        // 1. Transisi: entri = (cluster A, arah ke cluster B) | sel a | index tetangga b
+        long[] crossings = collectCrossings();
+        int[] nodeOf = new int[grid.size];
+        Arrays.fill(nodeOf, -1);
+        int[] pairA = new int[16], pairB = new int[16]; int pairs = 0;
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        for (int i = 0; i < crossings.length; ) {
+            // Run = crossing berurutan yang sel a-nya dan sel b-nya sama-sama bersebelahan,
+            // jadi semua sel di run terhubung dan satu transisi cukup mewakilinya
+            long key = crossings[i] >>> 34;
+            int j = i + 1, prevA = cellOf(crossings[i]), prevB = partnerOf(crossings[i], nbr);
+            while (j < crossings.length && crossings[j] >>> 34 == key) {
+                int a = cellOf(crossings[j]), b = partnerOf(crossings[j], nbr);
+                if (a != prevA && grid.hexDistance(prevA, a) != 1) break;
+                if (b != prevB && grid.hexDistance(prevB, b) != 1) break;
+                prevA = a; prevB = b; j++;
+            }
+            long mid = crossings[(i + j - 1) >>> 1];
+            int a = cellOf(mid), b = partnerOf(mid, nbr);
+            if (pairs == pairA.length) { pairA = Arrays.copyOf(pairA, pairs * 2); pairB = Arrays.copyOf(pairB, pairs * 2); }
+            pairA[pairs] = a; pairB[pairs++] = b;
+            nodeOf[a] = MARKED; nodeOf[b] = MARKED;
+            i = j;
+        }
+
+        // 2. Node diurutkan per cluster (counting sort)
+        clusterNodeStart = new int[clusters + 1];
+        for (int c = 0; c < grid.size; c++) if (nodeOf[c] == MARKED) clusterNodeStart[clusterOf(c) + 1]++;
+        for (int k = 0; k < clusters; k++) clusterNodeStart[k + 1] += clusterNodeStart[k];
+        nodeCell = new int[clusterNodeStart[clusters]];
+        int[] fill = Arrays.copyOf(clusterNodeStart, clusters);
+        for (int c = 0; c < grid.size; c++) {
+            if (nodeOf[c] != MARKED) continue;
+            int node = fill[clusterOf(c)]++;
+            nodeCell[node] = c; nodeOf[c] = node;
+        }
+        nodeOfCell = nodeOf;
+
+        // 3. Edge antar-cluster (berarah: masuk ke sel = biaya sel itu)
+        interStart = new int[nodeCell.length + 1];
+        for (int p = 0; p < pairs; p++) { interStart[nodeOf[pairA[p]] + 1]++; interStart[nodeOf[pairB[p]] + 1]++; }
+        for (int k = 0; k < nodeCell.length; k++) interStart[k + 1] += interStart[k];
+        interTo = new int[interStart[nodeCell.length]]; interCost = new int[interTo.length];
+        int[] cursor = Arrays.copyOf(interStart, nodeCell.length);
+        for (int p = 0; p < pairs; p++) {
+            int na = nodeOf[pairA[p]], nb = nodeOf[pairB[p]];
+            interTo[cursor[na]] = nb; interCost[cursor[na]++] = board.cost(pairB[p]);
+            interTo[cursor[nb]] = na; interCost[cursor[nb]++] = board.cost(pairA[p]);
+        }
+
+        // 4. Biaya intra-cluster, paralel per cluster
+        clusterDist = new int[clusters][];
+        IntStream.range(0, clusters).parallel().forEach(cl -> {
+            int from = clusterNodeStart[cl], k = clusterNodeStart[cl + 1] - from;
+            int[] d = new int[k * k];
+            ClusterSearch ws = workspace.get();
+            for (int u = 0; u < k; u++) {
+                ws.run(cl, nodeCell[from + u], false, -1);
+                for (int v = 0; v < k; v++) d[u * k + v] = ws.dist(nodeCell[from + v]);
+            }
+            clusterDist[cl] = d;
+        });
+        preprocessNanos = System.nanoTime() - t0;
+    }
+
+    private long[] collectCrossings() {
+        long[] out = new long[1024]; int n = 0;
+        int[] nbr = new int[HexGrid.MAX_DEGREE];
+        for (int a = 0; a < grid.size; a++) {
+            if (board.isWall(a)) continue;
+            int ca = clusterOf(a), deg = grid.neighbors(a, nbr);
+            for (int k = 0; k < deg; k++) {
+                int b = nbr[k];
+                if (board.isWall(b)) continue;
+                int cb = clusterOf(b);
+                if (cb <= ca) continue;
+                int dir = (cb / clusterCols - ca / clusterCols + 1) * 3 + (cb % clusterCols - ca % clusterCols + 1);
+                if (n == out.length) out = Arrays.copyOf(out, n * 2);
+                out[n++] = ((long) (ca * 9 + dir) << 34) | ((long) a << 3) | k;
+            }
+        }
+        long[] crossings = Arrays.copyOf(out, n);
+        Arrays.parallelSort(crossings);
+        return crossings;
+    }
+
+    private static int cellOf(long crossing) { return (int) ((crossing >>> 3) & 0x7FFFFFFFL); }
+
+    private int partnerOf(long crossing, int[] nbr) { grid.neighbors(cellOf(crossing), nbr); return nbr[(int) (crossing & 7)]; }
+
+    int clusterOf(int cell) {
+        int r = cell / grid.cols, c = cell - r * grid.cols;
+        return (r / clusterSize) * clusterCols + c / clusterSize;
+    }
+
+    public int nodeCount() { return nodeCell.length; }
+    public int clusterCount() { return clusterRows * clusterCols; }
+    public int getClusterSize() { return clusterSize; }
+    public long preprocessNanos() { return preprocessNanos; }
+
+    // --- QUERY ---
+    public SolveResult query(int from, int to) { return query(from, to, SearchTrace.disabled()); }
+
+    public SolveResult query(int from, int to, SearchTrace trace) {
+        long t0 = System.nanoTime();
+        if (board.isWall(from) || board.isWall(to))
+            return new SolveResult(ALGORITHM, new int[0], 0, 0, System.nanoTime() - t0, trace);
+        int n = nodeCell.length, START = n, GOAL = n + 1;
+        int cs = clusterOf(from), ce = clusterOf(to);
+        ClusterSearch fromSearch = new ClusterSearch(clusterSize), toSearch = workspace.get();
+        fromSearch.run(cs, from, false, -1);
+        toSearch.run(ce, to, true, -1);
+        int direct = cs == ce ? fromSearch.dist(to) : INF;
+
+        int[] g = new int[n + 2], parent = new int[n + 2];
+        Arrays.fill(g, INF);
+        IndexedHeap open = new IndexedHeap(n + 2);
+        g[START] = 0; parent[START] = START; open.update(START, 0);
+        int expanded = 0;
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (u == GOAL) break;
+            int cellU = u == START ? from : nodeCell[u];
+            expanded++; trace.add(SearchTrace.EXPAND, cellU);
+            if (u == START) {
+                for (int v = clusterNodeStart[cs]; v < clusterNodeStart[cs + 1]; v++) relax(u, v, fromSearch.dist(nodeCell[v]), g, parent, open, to, trace);
+                if (direct != INF) relax(u, GOAL, direct, g, parent, open, to, trace);
+                continue;
+            }
+            for (int e = interStart[u]; e < interStart[u + 1]; e++) relax(u, interTo[e], interCost[e], g, parent, open, to, trace);
+            int cl = clusterOf(cellU), base = clusterNodeStart[cl], k = clusterNodeStart[cl + 1] - base, row = (u - base) * k;
+            int[] d = clusterDist[cl];
+            for (int v = 0; v < k; v++) if (v + base != u) relax(u, base + v, d[row + v], g, parent, open, to, trace);
+            if (cl == ce) relax(u, GOAL, toSearch.dist(cellU), g, parent, open, to, trace);
+        }
+        if (g[GOAL] == INF) return new SolveResult(ALGORITHM, new int[0], 0, expanded, System.nanoTime() - t0, trace);
+
+        // Refinement: rangkaian node abstrak -> sel
+        int hops = 0;
+        for (int v = GOAL; v != START; v = parent[v]) hops++;
+        int[] chain = new int[hops + 1];
+        for (int v = GOAL, i = hops; i >= 0; v = parent[v], i--) chain[i] = v == START ? from : v == GOAL ? to : nodeCell[v];
+        int[] path = new int[64]; int len = 0;
+        path[len++] = from;
+        for (int i = 1; i < chain.length; i++) {
+            int a = chain[i - 1], b = chain[i];
+            int cl = clusterOf(a);
+            if (cl != clusterOf(b)) { path = ensure(path, len + 1); path[len++] = b; continue; }
+            fromSearch.run(cl, a, false, b);
+            int segLen = fromSearch.pathLength(b);
+            path = ensure(path, len + segLen);
+            fromSearch.writePath(b, path, len + segLen - 1);
+            len += segLen;
+        }
+        path = Arrays.copyOf(path, len);
+        int cost = 0;
+        for (int v : path) cost += board.cost(v);
+        return new SolveResult(ALGORITHM, path, cost, expanded, System.nanoTime() - t0, trace);
+    }
+
+    private void relax(int u, int v, int w, int[] g, int[] parent, IndexedHeap open, int to, SearchTrace trace) {
+        if (w == INF || g[u] + w >= g[v]) return;
+        g[v] = g[u] + w; parent[v] = u;
+        int cell = v >= nodeCell.length ? to : nodeCell[v];
+        open.update(v, g[v] + (long) grid.hexDistance(cell, to) * HexBoard.MIN_COST);
+        trace.add(SearchTrace.DISCOVER, cell);
+    }
+
+    private static int[] ensure(int[] a, int len) { return len <= a.length ? a : Arrays.copyOf(a, Math.max(len, a.length * 2)); }
+
+    // --- DIJKSTRA TERBATAS PADA SATU CLUSTER ---
+    // Indeks lokal (r - r0) * clusterSize + (c - c0); reverse = jarak menuju source.
+    private final class ClusterSearch {
+        final int[] dist, parent, nbr = new int[HexGrid.MAX_DEGREE];
+        final IndexedHeap open;
+        int r0, c0, h, w, source;
+
+        ClusterSearch(int cs) {
+            dist = new int[cs * cs]; parent = new int[cs * cs]; open = new IndexedHeap(cs * cs);
+        }
+
+        int local(int cell) {
+            int r = cell / grid.cols - r0, c = cell % grid.cols - c0;
+            return (r < 0 || r >= h || c < 0 || c >= w) ? -1 : r * clusterSize + c;
+        }
+
+        int cell(int local) { return (r0 + local / clusterSize) * grid.cols + c0 + local % clusterSize; }
+
+        void run(int cluster, int src, boolean reverse, int target) {
+            r0 = (cluster / clusterCols) * clusterSize; c0 = (cluster % clusterCols) * clusterSize;
+            h = Math.min(clusterSize, grid.rows - r0); w = Math.min(clusterSize, grid.cols - c0);
+            source = src;
+            Arrays.fill(dist, INF);
+            open.clear();
+            int s = local(src);
+            dist[s] = 0; parent[s] = s; open.update(s, 0);
+            int t = target >= 0 ? local(target) : -1;
+            while (!open.isEmpty()) {
+                int u = open.pop();
+                if (u == t) break;
+                int cu = cell(u), deg = grid.neighbors(cu, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int cv = nbr[k];
+                    if (board.isWall(cv)) continue;
+                    int v = local(cv);
+                    if (v < 0) continue;
+                    int nd = dist[u] + board.cost(reverse ? cu : cv);
+                    if (nd < dist[v]) { dist[v] = nd; parent[v] = u; open.update(v, nd); }
+                }
+            }
+        }
+
+        int dist(int cell) { int l = local(cell); return l < 0 ? INF : dist[l]; }
+
+        // Jumlah sel setelah source sampai target
+        int pathLength(int target) {
+            int len = 0;
+            for (int v = local(target); v != parent[v]; v = parent[v]) len++;
+            return len;
+        }
+
+        void writePath(int target, int[] out, int last) {
+            for (int v = local(target); v != parent[v]; v = parent[v]) out[last--] = cell(v);
+        }
+    }
+}
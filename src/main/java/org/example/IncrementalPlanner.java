@@ -0,0 +1,110 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Lifelong Planning A* (LPA*) antara start dan goal tetap. Nilai g/rhs disimpan di antara
+ * pemanggilan {@link #solve}, jadi setelah terrain sel diubah ({@link #cellChanged}) hanya
+ * sel yang terpengaruh edit yang diekspansi ulang. Biaya berarah sama seperti solver lain
+ * (masuk ke v = cost(v)), sehingga rhs(v) = cost(v) + min g(p) atas tetangga p yang terbuka.
+ * <p>
+ * Kunci [min(g, rhs) + h; min(g, rhs)] dipak ke satu long untuk {@link IndexedHeap}:
+ * 32 bit atas k1, 32 bit bawah k2, urutan long sama dengan urutan leksikografis.
+ */
+final class IncrementalPlanner {
+
+    public static final String ALGORITHM = "LPA*";
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final HexBoard board;
+    private final HexGrid grid;
+    final int start, goal;
+    private final int[] g, rhs;
+    private final int[] nbr = new int[HexGrid.MAX_DEGREE], preds = new int[HexGrid.MAX_DEGREE];
+    private final IndexedHeap open;
+
+    IncrementalPlanner(HexBoard board, int start, int goal) {
+        this.board = board; this.grid = board.grid; this.start = start; this.goal = goal;
+        g = new int[grid.size]; rhs = new int[grid.size];
+        Arrays.fill(g, INF); Arrays.fill(rhs, INF);
+        open = new IndexedHeap(grid.size);
+        rhs[start] = 0;
+        open.update(start, key(start));
+    }
+
+    /** Dipanggil setelah {@code board.setType(id, ...)}: sel itu dan tetangganya dihitung ulang. */
+    void cellChanged(int id) {
+        updateVertex(id);
+        int deg = grid.neighbors(id, nbr);
+        for (int k = 0; k < deg; k++) updateVertex(nbr[k]);
+    }
+
+    SolveResult solve(SearchTrace trace) {
+        long t0 = System.nanoTime();
+        int expanded = computeShortestPath(trace);
+        return new SolveResult(ALGORITHM, path(), g[goal] == INF ? 0 : g[goal] + board.cost(start), expanded, System.nanoTime() - t0, trace);
+    }
+
+    private int computeShortestPath(SearchTrace trace) {
+        int[] succ = new int[HexGrid.MAX_DEGREE];
+        int expanded = 0;
+        while (!open.isEmpty() && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.pop();
+            expanded++; trace.add(SearchTrace.EXPAND, u);
+            if (g[u] > rhs[u]) g[u] = rhs[u]; // overconsistent: turunkan ke rhs
+            else { g[u] = INF; updateVertex(u); } // underconsistent: naikkan, ekspansi ulang nanti
+            int deg = grid.neighbors(u, succ);
+            for (int k = 0; k < deg; k++) {
+                int v = succ[k];
+                if (updateVertex(v)) trace.add(SearchTrace.DISCOVER, v);
+            }
+        }
+        return expanded;
+    }
+
+    // Menghitung ulang rhs dan posisi sel di open; true bila sel (masih) inkonsisten
+    private boolean updateVertex(int u) {
+        if (u != start) rhs[u] = bestPredecessor(u);
+        if (g[u] != rhs[u]) { open.update(u, key(u)); return true; }
+        if (open.contains(u)) open.remove(u);
+        return false;
+    }
+
+    private int bestPredecessor(int u) {
+        if (board.isWall(u)) return INF;
+        int best = INF, deg = grid.neighbors(u, preds);
+        for (int k = 0; k < deg; k++) {
+            int p = preds[k];
+            if (!board.isWall(p) && g[p] < best) best = g[p];
+        }
+        return best == INF ? INF : best + board.cost(u);
+    }
+
+    private long key(int s) {
+        int m = Math.min(g[s], rhs[s]);
+        if (m == INF) return Long.MAX_VALUE;
+        return ((long) (m + grid.hexDistance(s, goal) * HexBoard.MIN_COST) << 32) | m;
+    }
+
+    // Jalur dari goal mundur lewat predecessor dengan g terkecil
+    private int[] path() {
+        if (g[goal] == INF) return new int[0];
+        int[] rev = new int[16];
+        int len = 0;
+        for (int v = goal; ; ) {
+            if (len == rev.length) rev = Arrays.copyOf(rev, len * 2);
+            rev[len++] = v;
+            if (v == start) break;
+            int best = -1, deg = grid.neighbors(v, preds);
+            for (int k = 0; k < deg; k++) {
+                int p = preds[k];
+                if (!board.isWall(p) && g[p] != INF && (best < 0 || g[p] < g[best])) best = p;
+            }
+            if (best < 0 || len > grid.size) return new int[0];
+            v = best;
+        }
+        int[] path = new int[len];
+        for (int i = 0; i < len; i++) path[i] = rev[len - 1 - i];
+        return path;
+    }
+}
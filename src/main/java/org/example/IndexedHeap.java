@@ -0,0 +1,92 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap 4-ary dengan indeks: elemen berupa id sel {@code 0..capacity-1}, prioritas
+ * {@code long}. Posisi setiap id disimpan di {@code pos}, jadi decrease-key, update dan
+ * remove O(log n) tanpa entri duplikat dan tanpa alokasi setelah konstruksi.
+ */
+public final class IndexedHeap {
+
+    private final int[] heap;  // id per slot heap
+    private final int[] pos;   // slot heap per id, -1 jika tidak ada di heap
+    private final long[] key;  // prioritas per id
+    private int size;
+
+    public IndexedHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        key = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean contains(int id) { return pos[id] >= 0; }
+    public long key(int id) { return key[id]; }
+    public int peek() { return heap[0]; }
+    public long peekKey() { return key[heap[0]]; }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    /** Menambahkan id, atau mengubah prioritasnya jika sudah ada (naik maupun turun). */
+    public void update(int id, long k) {
+        int i = pos[id];
+        if (i < 0) {
+            key[id] = k; heap[size] = id; pos[id] = size; siftUp(size++);
+        } else if (k < key[id]) {
+            key[id] = k; siftUp(i);
+        } else if (k > key[id]) {
+            key[id] = k; siftDown(i);
+        }
+    }
+
+    public int pop() {
+        int top = heap[0];
+        pos[top] = -1;
+        if (--size > 0) { heap[0] = heap[size]; pos[heap[0]] = 0; siftDown(0); }
+        return top;
+    }
+
+    public void remove(int id) {
+        int i = pos[id];
+        if (i < 0) return;
+        pos[id] = -1;
+        if (i == --size) return;
+        int last = heap[size];
+        heap[i] = last; pos[last] = i;
+        if (i > 0 && key[last] < key[heap[(i - 1) >> 2]]) siftUp(i); else siftDown(i);
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i]; long k = key[id];
+        while (i > 0) {
+            int p = (i - 1) >> 2;
+            int pid = heap[p];
+            if (key[pid] <= k) break;
+            heap[i] = pid; pos[pid] = i; i = p;
+        }
+        heap[i] = id; pos[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i]; long k = key[id];
+        while (true) {
+            int first = (i << 2) + 1;
+            if (first >= size) break;
+            int best = first; long bestKey = key[heap[first]];
+            int last = Math.min(first + 4, size);
+            for (int c = first + 1; c < last; c++) {
+                long ck = key[heap[c]];
+                if (ck < bestKey) { best = c; bestKey = ck; }
+            }
+            if (bestKey >= k) break;
+            heap[i] = heap[best]; pos[heap[i]] = i; i = best;
+        }
+        heap[i] = id; pos[id] = i;
+    }
+}
@@ -0,0 +1,208 @@
+package org.example;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Metrik struktur maze tanpa GUI, untuk menyetel probabilitas {@code generateRandomTerrain}
+ * dan {@code addMultiplePaths} dari statistik, bukan inspeksi manual. Bisa dipakai untuk board
+ * yang sedang hidup ({@link #analyze}) atau untuk ribuan maze sekaligus lewat parallel stream.
+ * <p>
+ * Kolom {@code cycle_rank} adalah E - V + komponen graf sel terbuka: jumlah siklus independen,
+ * nol untuk maze Prim murni. Ini <i>bukan</i> jumlah sel yang dibuka addMultiplePaths; satu
+ * dinding yang dibuka dengan p tetangga terbuka menambah p - 1 siklus, dan end yang dipaksa
+ * terbuka (atau seam ekstra pada maze tile) bisa menambah lagi.
+ * <pre>
+ *   java org.example.MazeAnalyzer batch &lt;mazes&gt; &lt;size&gt; [baseSeed] [out.csv|-]
+ *   java org.example.MazeAnalyzer files &lt;maze.hexm&gt;... [-o out.csv]
+ * </pre>
+ */
+public final class MazeAnalyzer {
+
+    static final String CSV_HEADER = "seed,rows,cols,open_cells,dead_ends,junctions,branching,cycle_rank,components,"
+            + "corridors,mean_corridor,max_corridor,bfs_length,bfs_cost,dijkstra_length,dijkstra_cost,cost_ratio";
+
+    // Histogram panjang koridor per bucket pangkat dua: [1], [2,3], [4,7], ...
+    static final int HISTOGRAM_BUCKETS = 32;
+
+    private MazeAnalyzer() {}
+
+    /** Hasil analisis satu maze. */
+    static final class Metrics {
+        final long seed;
+        final int rows, cols;
+        int openCells, deadEnds, junctions, components, corridors, maxCorridor;
+        long edges, corridorCells;
+        final long[] corridorHistogram = new long[HISTOGRAM_BUCKETS];
+        int bfsLength, bfsCost, dijkstraLength, dijkstraCost;
+
+        Metrics(HexBoard board) { seed = board.seed; rows = board.rows; cols = board.cols; }
+
+        /** Rata-rata pilihan lanjutan per sel: derajat - 1 (sel dead end = 0). */
+        double branching() { return openCells == 0 ? 0 : (2.0 * edges - openCells) / openCells; }
+        long cycleRank() { return edges - openCells + components; }
+        double meanCorridor() { return corridors == 0 ? 0 : (double) corridorCells / corridors; }
+        double costRatio() { return dijkstraCost == 0 ? 0 : (double) bfsCost / dijkstraCost; }
+
+        String csv() {
+            return String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%d,%.4f,%d,%d,%d,%.3f,%d,%d,%d,%d,%d,%.4f%n",
+                    seed, rows, cols, openCells, deadEnds, junctions, branching(), cycleRank(), components,
+                    corridors, meanCorridor(), maxCorridor, bfsLength, bfsCost, dijkstraLength, dijkstraCost, costRatio());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Metrics[] results;
+        String out = "-";
+        long t0 = System.nanoTime();
+        if (args.length >= 3 && args[0].equals("batch")) {
+            int mazes = Integer.parseInt(args[1]), size = Integer.parseInt(args[2]);
+            long baseSeed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+            if (args.length > 4) out = args[4];
+            results = batch(mazes, size, baseSeed);
+        } else if (args.length >= 2 && args[0].equals("files")) {
+            int n = args.length - 1;
+            if (n >= 3 && args[n - 1].equals("-o")) { out = args[n]; n -= 2; }
+            Path[] files = new Path[n];
+            for (int i = 0; i < n; i++) files[i] = Paths.get(args[i + 1]);
+            results = files(files);
+        } else {
+            System.err.println("Usage: MazeAnalyzer batch <mazes> <size> [baseSeed] [out.csv|-] | MazeAnalyzer files <maze.hexm>... [-o out.csv]");
+            System.exit(2);
+            return;
+        }
+        try (Writer w = out.equals("-")
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8)) {
+            w.write(CSV_HEADER); w.write('\n');
+            for (Metrics m : results) w.write(m.csv());
+        }
+        System.err.print(summary(results));
+        System.err.printf(Locale.ROOT, "%d mazes analyzed in %.1f s%n", results.length, (System.nanoTime() - t0) / 1e9);
+    }
+
+    /** Maze dengan seed berurutan, dibangkitkan dan dianalisis paralel; hasil urut seed. */
+    static Metrics[] batch(int mazes, int size, long baseSeed) {
+        return IntStream.range(0, mazes).parallel()
+                .mapToObj(i -> analyze(HexGenerator.create(size, size, baseSeed + i)))
+                .toArray(Metrics[]::new);
+    }
+
+    static Metrics[] files(Path[] files) {
+        return IntStream.range(0, files.length).parallel().mapToObj(i -> {
+            try { return analyze(MazeFile.load(files[i])); }
+            catch (IOException e) { throw new UncheckedIOException(files[i].toString(), e); }
+        }).toArray(Metrics[]::new);
+    }
+
+    public static Metrics analyze(HexBoard board) {
+        HexGrid grid = board.grid;
+        Metrics m = new Metrics(board);
+
+        // Derajat terbuka per sel, dihitung per baris secara paralel
+        byte[] degree = new byte[grid.size];
+        IntStream.range(0, board.rows).parallel().forEach(r -> {
+            int[] nbr = new int[HexGrid.MAX_DEGREE];
+            for (int id = r * board.cols, end = id + board.cols; id < end; id++) {
+                if (board.isWall(id)) { degree[id] = -1; continue; }
+                int deg = grid.neighbors(id, nbr), open = 0;
+                for (int k = 0; k < deg; k++) if (!board.isWall(nbr[k])) open++;
+                degree[id] = (byte) open;
+            }
+        });
+
+        long degreeSum = 0;
+        for (int id = 0; id < grid.size; id++) {
+            int d = degree[id];
+            if (d < 0) continue;
+            m.openCells++; degreeSum += d;
+            if (d == 1) m.deadEnds++; else if (d >= 3) m.junctions++;
+        }
+        m.edges = degreeSum / 2;
+
+        // Komponen sel terbuka dan koridor (komponen sel berderajat 2), satu flood fill masing-masing
+        long[] seen = new long[(grid.size + 63) >>> 6], inCorridor = new long[(grid.size + 63) >>> 6];
+        Flood flood = new Flood(board, degree);
+        for (int id = 0; id < grid.size; id++) {
+            if (degree[id] < 0) continue;
+            if ((seen[id >>> 6] & (1L << id)) == 0) { m.components++; flood.fill(id, false, seen); }
+            if (degree[id] == 2 && (inCorridor[id >>> 6] & (1L << id)) == 0) {
+                int len = flood.fill(id, true, inCorridor);
+                m.corridors++; m.corridorCells += len; m.maxCorridor = Math.max(m.maxCorridor, len);
+                m.corridorHistogram[31 - Integer.numberOfLeadingZeros(len)]++;
+            }
+        }
+
+        SolveResult bfs = HexSolver.solve(board, "BFS", new Random(board.seed), false);
+        SolveResult dijkstra = HexSolver.solve(board, "Dijkstra", new Random(board.seed), false);
+        m.bfsLength = bfs.path.length; m.bfsCost = bfs.cost;
+        m.dijkstraLength = dijkstra.path.length; m.dijkstraCost = dijkstra.cost;
+        return m;
+    }
+
+    // Flood fill dengan stack yang dipakai ulang antar panggilan (diperbesar bila perlu)
+    private static final class Flood {
+        private final HexBoard board;
+        private final byte[] degree;
+        private final int[] nbr = new int[HexGrid.MAX_DEGREE];
+        private int[] stack = new int[1024];
+
+        Flood(HexBoard board, byte[] degree) { this.board = board; this.degree = degree; }
+
+        // Menandai sel yang terjangkau dari from di mark; corridorOnly membatasi ke sel
+        // berderajat 2. Mengembalikan jumlah sel yang dikunjungi.
+        int fill(int from, boolean corridorOnly, long[] mark) {
+            HexGrid grid = board.grid;
+            int top = 0, count = 0;
+            stack[top++] = from; mark[from >>> 6] |= 1L << from;
+            while (top > 0) {
+                int u = stack[--top];
+                count++;
+                int deg = grid.neighbors(u, nbr);
+                for (int k = 0; k < deg; k++) {
+                    int v = nbr[k];
+                    if (degree[v] < 0 || (corridorOnly && degree[v] != 2) || (mark[v >>> 6] & (1L << v)) != 0) continue;
+                    mark[v >>> 6] |= 1L << v;
+                    if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = v;
+                }
+            }
+            return count;
+        }
+    }
+
+    /** Ringkasan rata-rata/min/maks dan histogram koridor gabungan, untuk stderr. */
+    static String summary(Metrics[] results) {
+        if (results.length == 0) return "no mazes\n";
+        StringBuilder sb = new StringBuilder(512);
+        stat(sb, "dead_ends", results, m -> m.deadEnds);
+        stat(sb, "junctions", results, m -> m.junctions);
+        stat(sb, "branching", results, Metrics::branching);
+        stat(sb, "cycle_rank", results, Metrics::cycleRank);
+        stat(sb, "mean_corridor", results, Metrics::meanCorridor);
+        stat(sb, "bfs_length", results, m -> m.bfsLength);
+        stat(sb, "dijkstra_length", results, m -> m.dijkstraLength);
+        stat(sb, "cost_ratio", results, Metrics::costRatio);
+        long[] hist = new long[HISTOGRAM_BUCKETS];
+        for (Metrics m : results) for (int b = 0; b < HISTOGRAM_BUCKETS; b++) hist[b] += m.corridorHistogram[b];
+        sb.append("corridor length histogram:\n");
+        for (int b = 0; b < HISTOGRAM_BUCKETS; b++) {
+            if (hist[b] == 0) continue;
+            long lo = 1L << b, hi = (1L << (b + 1)) - 1;
+            sb.append(String.format(Locale.ROOT, "  %7s %d%n", lo == hi ? String.valueOf(lo) : lo + "-" + hi, hist[b]));
+        }
+        return sb.toString();
+    }
+
+    private static void stat(StringBuilder sb, String name, Metrics[] results, ToDoubleFunction<Metrics> f) {
+        double sum = 0, min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+        for (Metrics m : results) { double v = f.applyAsDouble(m); sum += v; min = Math.min(min, v); max = Math.max(max, v); }
+        sb.append(String.format(Locale.ROOT, "%-16s mean=%.3f min=%.3f max=%.3f%n", name, sum / results.length, min, max));
+    }
+}
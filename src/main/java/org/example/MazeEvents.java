@@ -0,0 +1,47 @@
+package org.example;
+
+import jdk.jfr.*;
+
+/**
+ * Event JDK Flight Recorder untuk fase generate, solve dan paint. Bila recording tidak
+ * aktif, {@code begin()}/{@code shouldCommit()} praktis tanpa biaya dan field tidak diisi.
+ * <pre>
+ *   java -XX:StartFlightRecording=filename=maze.jfr ... ; jfr print --events org.example.Solve maze.jfr
+ * </pre>
+ */
+final class MazeEvents {
+
+    private MazeEvents() {}
+
+    @Name("org.example.Generate")
+    @Label("Maze Generate")
+    @Category("HexMaze")
+    static final class Generate extends Event {
+        @Label("Rows") int rows;
+        @Label("Columns") int cols;
+        @Label("Seed") long seed;
+        @Label("Tiled") boolean tiled;
+    }
+
+    @Name("org.example.Solve")
+    @Label("Maze Solve")
+    @Category("HexMaze")
+    static final class Solve extends Event {
+        @Label("Algorithm") String algorithm;
+        @Label("Cells") int cells;
+        @Label("Nodes Expanded") int expanded;
+        @Label("Peak Frontier") int peakFrontier;
+        @Label("Path Length") int pathLength;
+        @Label("Cost") int cost;
+    }
+
+    @Name("org.example.Paint")
+    @Label("Maze Paint")
+    @Category("HexMaze")
+    static final class Paint extends Event {
+        @Label("Clip Width") int clipWidth;
+        @Label("Clip Height") int clipHeight;
+        @Label("Minimap") boolean minimap;
+        @Label("Terrain Rebuilt") boolean terrainRebuilt;
+    }
+}
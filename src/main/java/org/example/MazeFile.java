@@ -0,0 +1,109 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+/**
+ * Format biner versi 1 untuk {@link HexBoard}, dibaca/ditulis lewat memory-mapped NIO.
+ * <pre>
+ *   offset  isi (big-endian)
+ *   0       magic "HEXM"
+ *   4       int  versi (1)
+ *   8       int  rows
+ *   12      int  cols
+ *   16      long seed
+ *   24      int  id sel start
+ *   28      int  id sel end
+ *   32      int  bit per sel (4)
+ *   36      int  reserved (0)
+ *   40      sel packed, 2 sel per byte, sel genap di nibble bawah
+ * </pre>
+ * CLI: {@code MazeFile generate <size> <seed> <file>} dan {@code MazeFile info <file>}.
+ */
+public final class MazeFile {
+
+    public static final int MAGIC = 0x4845584D; // "HEXM"
+    public static final int VERSION = 1;
+    static final int HEADER_SIZE = 40;
+    private static final int BITS_PER_CELL = 4;
+    private static final int CHUNK = 1 << 30; // map per 1 GiB supaya file > 2 GiB tetap bisa
+
+    private MazeFile() {}
+
+    public static void save(HexBoard board, Path file) throws IOException {
+        byte[] cells = board.gridType;
+        long size = HEADER_SIZE + (long) cells.length;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(board.rows).putInt(board.cols).putLong(board.seed)
+                  .putInt(board.start).putInt(board.end).putInt(BITS_PER_CELL).putInt(0);
+            header.force();
+            for (long pos = 0; pos < cells.length; pos += CHUNK) {
+                int len = (int) Math.min(CHUNK, cells.length - pos);
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + pos, len);
+                buf.put(cells, (int) pos, len);
+                buf.force();
+            }
+            if (ch.size() != size) throw new IOException("Short write: " + ch.size() + " of " + size + " bytes");
+        }
+    }
+
+    public static HexBoard load(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER_SIZE) throw new IOException("Not a maze file (too short): " + file);
+            ByteBuffer header = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) throw new IOException("Not a maze file (bad magic): " + file);
+            int version = header.getInt();
+            if (version != VERSION) throw new IOException("Unsupported maze file version " + version + ": " + file);
+            int rows = header.getInt(), cols = header.getInt();
+            long seed = header.getLong();
+            int start = header.getInt(), end = header.getInt(), bits = header.getInt();
+            if (rows < 3 || cols < 3 || (long) rows * cols > Integer.MAX_VALUE) throw new IOException("Bad dimensions " + rows + "x" + cols + ": " + file);
+            if (bits != BITS_PER_CELL) throw new IOException("Unsupported cell width " + bits + " bits: " + file);
+            int length = HexBoard.packedLength(rows, cols);
+            if (ch.size() < HEADER_SIZE + (long) length) throw new IOException("Truncated maze file: " + file);
+
+            byte[] cells = new byte[length];
+            for (long pos = 0; pos < length; pos += CHUNK) {
+                int len = (int) Math.min(CHUNK, length - pos);
+                ch.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + pos, len).get(cells, (int) pos, len);
+            }
+            checkCells(cells, (int) ((long) rows * cols), file);
+            HexBoard board = new HexBoard(rows, cols, seed, cells);
+            if (board.start != start || board.end != end) throw new IOException("Unsupported start/end cells " + start + "/" + end + ": " + file);
+            return board;
+        }
+    }
+
+    // Nibble di atas WATER bukan tipe sel; nibble padding setelah sel terakhir diabaikan
+    private static void checkCells(byte[] cells, int size, Path file) throws IOException {
+        for (int id = 0; id < size; id++) {
+            int type = (cells[id >>> 1] >>> ((id & 1) << 2)) & 0xF;
+            if (type > HexBoard.WATER) throw new IOException("Bad cell type " + type + " at cell " + id + ": " + file);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 4 && args[0].equals("generate")) {
+            int size = Integer.parseInt(args[1]);
+            long t0 = System.nanoTime();
+            HexBoard board = HexGenerator.create(size, size, Long.parseLong(args[2]));
+            long t1 = System.nanoTime();
+            save(board, Paths.get(args[3]));
+            System.out.printf("generated %dx%d in %.1f ms, saved %d bytes in %.1f ms%n", size, size,
+                    (t1 - t0) / 1e6, Files.size(Paths.get(args[3])), (System.nanoTime() - t1) / 1e6);
+        } else if (args.length >= 2 && args[0].equals("info")) {
+            long t0 = System.nanoTime();
+            HexBoard board = load(Paths.get(args[1]));
+            System.out.printf("%dx%d seed=%d loaded in %.1f ms (%d bytes of cells)%n", board.rows, board.cols,
+                    board.seed, (System.nanoTime() - t0) / 1e6, board.gridType.length);
+        } else {
+            System.err.println("Usage: MazeFile generate <size> <seed> <file> | MazeFile info <file>");
+            System.exit(2);
+        }
+    }
+}
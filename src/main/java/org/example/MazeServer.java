@@ -0,0 +1,457 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Layanan HTTP lokal untuk generate dan solve maze tanpa layar, hanya memakai
+ * {@code com.sun.net.httpserver} dan terikat ke loopback.
+ * <pre>
+ *   POST /maze         {"size": 101, "seed": 7}  atau {"rows": .., "cols": .., "seed": ..}  -&gt; {"id": ...}
+ *   POST /solve        {"id": "...", "algorithm": "A*", "from": id?, "to": id?, "path": true?}
+ *   POST /solve/batch  {"jobs": [ {objek seperti /solve}, ... ]}                         -&gt; {"results": [...]}
+ *   GET  /stats
+ *
+ *   java org.example.MazeServer [port] [solverThreads]
+ * </pre>
+ * Request ditangani di virtual thread bila JVM mendukungnya (Java 21+, dicari lewat refleksi),
+ * selain itu di pool biasa. Generate dan pencarian selalu berjalan di pool berukuran tetap
+ * dengan antrean terbatas; bila penuh server menjawab 503, dan body di atas
+ * {@link #MAX_BODY_BYTES} dijawab 413. Id maze deterministik
+ * ({@code rows x cols - seed}), jadi maze yang terbuang dari cache LRU cukup dibangkitkan ulang.
+ * Cache dibatasi total jumlah sel, bukan jumlah entri, karena satu board besar beserta
+ * DistanceField dan hierarki HPA*-nya bisa memakan ratusan MB.
+ */
+public final class MazeServer {
+
+    static final int DEFAULT_PORT = 8765;
+    static final int MAX_CELLS = 16_000_000;
+    static final long MAX_CACHED_CELLS = 2L * MAX_CELLS; // ~10 byte per sel bila field & hierarki sudah dibangun
+    static final int QUEUE_PER_WORKER = 64;
+    static final int GENERATE_QUEUE = 4;
+    static final int MAX_BODY_BYTES = 4 << 20; // cukup untuk puluhan ribu job per batch
+
+    // Nama algoritma yang diterima HexSolver; nama lain ditolak sebagai 400
+    private static final Set<String> ALGORITHMS = new HashSet<>();
+    static {
+        ALGORITHMS.addAll(Arrays.asList(HexSolver.ALGORITHMS));
+        ALGORITHMS.addAll(Arrays.asList(HexSolver.BIDIRECTIONAL));
+        ALGORITHMS.addAll(Arrays.asList(HexSolver.A_STAR_EUCLID, HierarchicalPathfinder.ALGORITHM,
+                IncrementalPlanner.ALGORITHM, DistanceField.ALGORITHM));
+    }
+
+    private final HttpServer http;
+    private final ExecutorService requests;
+    private final ThreadPoolExecutor solvers, generators;
+    // Satu future per id: request yang meleset bersamaan menunggu generate yang sama
+    private final LinkedHashMap<String, Cached> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedCells, cacheHits, cacheMisses, solves, rejected;
+
+    MazeServer(int port, int solverThreads) throws IOException {
+        http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        requests = requestExecutor();
+        solvers = new ThreadPoolExecutor(solverThreads, solverThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(solverThreads * QUEUE_PER_WORKER), daemon("maze-solver"));
+        // Pool terpisah: solve yang menunggu board tidak bisa mengunci pool-nya sendiri
+        int genThreads = Math.max(1, solverThreads / 2);
+        generators = new ThreadPoolExecutor(genThreads, genThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(GENERATE_QUEUE), daemon("maze-generator"));
+        http.setExecutor(requests);
+        http.createContext("/maze", ex -> handle(ex, "POST", "/maze", this::createMaze));
+        http.createContext("/solve", ex -> {
+            if (ex.getRequestURI().getPath().equals("/solve/batch")) handle(ex, "POST", "/solve/batch", this::solveBatch);
+            else handle(ex, "POST", "/solve", this::solveOne);
+        });
+        http.createContext("/stats", ex -> handle(ex, "GET", "/stats", body -> stats()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        MazeServer server = new MazeServer(port, threads);
+        server.start();
+        System.out.printf("listening on http://%s:%d (%d solver threads)%n",
+                InetAddress.getLoopbackAddress().getHostAddress(), server.port(), threads);
+    }
+
+    void start() { http.start(); }
+
+    int port() { return http.getAddress().getPort(); }
+
+    void stop() {
+        http.stop(0);
+        requests.shutdownNow(); solvers.shutdownNow(); generators.shutdownNow();
+    }
+
+    // Virtual thread per request bila tersedia (Java 21+), tanpa mengikat kode ke API itu
+    private static ExecutorService requestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newFixedThreadPool(64, daemon("maze-http"));
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> { Thread t = new Thread(r, name); t.setDaemon(true); return t; };
+    }
+
+    // --- ENDPOINT ---
+    private interface Endpoint { String call(Map<String, Object> body) throws Exception; }
+
+    private static final class BadRequest extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        BadRequest(String message) { super(message); }
+    }
+
+    private static final class BodyTooLarge extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        BodyTooLarge() { super("Request body is larger than " + MAX_BODY_BYTES + " bytes"); }
+    }
+
+    private void handle(HttpExchange ex, String method, String path, Endpoint endpoint) throws IOException {
+        int status = 200;
+        String response;
+        try {
+            if (!ex.getRequestURI().getPath().equals(path)) { status = 404; response = error("Not found"); }
+            else if (!ex.getRequestMethod().equals(method)) { status = 405; response = error("Use " + method); }
+            else {
+                Map<String, Object> body = method.equals("POST") ? Json.object(readBody(ex)) : Collections.emptyMap();
+                response = endpoint.call(body);
+            }
+        } catch (BadRequest e) {
+            status = 400; response = error(e.getMessage());
+        } catch (BodyTooLarge e) {
+            status = 413; response = error(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            synchronized (this) { rejected++; }
+            status = 503; response = error("Server is busy, try again later");
+        } catch (Exception e) {
+            status = 500; response = error(String.valueOf(e));
+        }
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) { out.write(bytes); }
+    }
+
+    // Ditolak dari Content-Length bila ada; body chunked dibaca paling banyak MAX_BODY_BYTES + 1
+    private static String readBody(HttpExchange ex) throws IOException, BodyTooLarge {
+        String declared = ex.getRequestHeaders().getFirst("Content-Length");
+        try {
+            if (declared != null && Long.parseLong(declared.trim()) > MAX_BODY_BYTES) throw new BodyTooLarge();
+        } catch (NumberFormatException ignored) {
+            // biarkan batas baca di bawah yang menentukan
+        }
+        try (InputStream in = ex.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) throw new BodyTooLarge();
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private String createMaze(Map<String, Object> body) throws Exception {
+        int size = (int) number(body, "size", 0);
+        int rows = (int) number(body, "rows", size), cols = (int) number(body, "cols", size);
+        long seed = body.containsKey("seed") ? number(body, "seed", 0) : new Random().nextLong();
+        String id = rows + "x" + cols + "-" + seed;
+        HexBoard board = board(id);
+        return "{\"id\":" + Json.quote(id) + ",\"rows\":" + board.rows + ",\"cols\":" + board.cols + ",\"seed\":" + board.seed
+                + ",\"start\":" + board.start + ",\"end\":" + board.end + "}";
+    }
+
+    private String solveOne(Map<String, Object> body) throws Exception {
+        Future<String> f = solvers.submit(solveJob(body));
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) throw (Exception) e.getCause(); // 400 untuk input salah
+            throw e;
+        }
+    }
+
+    private String solveBatch(Map<String, Object> body) throws Exception {
+        Object jobs = body.get("jobs");
+        if (!(jobs instanceof List)) throw new BadRequest("\"jobs\" must be an array");
+        // Job yang gagal menghasilkan {"error": ...} di posisinya, job lain tetap dijawab. Bila
+        // antrean penuh, batch menunggu job miliknya yang paling lama sebelum mencoba lagi;
+        // 503 hanya bila antrean penuh oleh request lain.
+        List<?> list = (List<?>) jobs;
+        List<Future<String>> futures = new ArrayList<>(list.size());
+        String[] results = new String[list.size()];
+        int collected = 0;
+        try {
+            for (Object job : list) {
+                Future<String> f;
+                try {
+                    if (!(job instanceof Map)) throw new BadRequest("Each job must be an object");
+                    @SuppressWarnings("unchecked") Map<String, Object> m = (Map<String, Object>) job;
+                    Callable<String> task = solveJob(m);
+                    while (true) {
+                        try { f = solvers.submit(task); break; }
+                        catch (RejectedExecutionException e) {
+                            if (collected == futures.size()) throw e;
+                            results[collected] = await(futures.get(collected)); collected++;
+                        }
+                    }
+                } catch (BadRequest e) {
+                    f = CompletableFuture.completedFuture(error(e.getMessage()));
+                }
+                futures.add(f);
+            }
+        } catch (RejectedExecutionException e) {
+            for (Future<String> f : futures) f.cancel(true);
+            throw e;
+        }
+        for (; collected < futures.size(); collected++) results[collected] = await(futures.get(collected));
+        StringBuilder sb = new StringBuilder("{\"results\":[");
+        for (int i = 0; i < results.length; i++) sb.append(i > 0 ? "," : "").append(results[i]);
+        return sb.append("]}").toString();
+    }
+
+    private static String await(Future<String> f) throws InterruptedException {
+        try { return f.get(); }
+        catch (ExecutionException e) { return error(e.getCause().getMessage()); }
+    }
+
+    // Validasi di thread request, pencarian di pool solver
+    private Callable<String> solveJob(Map<String, Object> body) throws BadRequest {
+        Object id = body.get("id"), algorithm = body.get("algorithm");
+        if (!(id instanceof String)) throw new BadRequest("\"id\" is required");
+        if (!(algorithm instanceof String)) throw new BadRequest("\"algorithm\" is required");
+        if (!ALGORITHMS.contains(algorithm)) throw new BadRequest("Unknown algorithm: " + algorithm);
+        boolean withPath = !Boolean.FALSE.equals(body.get("path"));
+        long from = number(body, "from", -1), to = number(body, "to", -1);
+        return () -> {
+            HexBoard board = board((String) id);
+            int s = from < 0 ? board.start : checkCell(board, from), t = to < 0 ? board.end : checkCell(board, to);
+            SolveResult res = HexSolver.solve(board, (String) algorithm, s, t, new Random(board.seed), false);
+            synchronized (this) { solves++; }
+            StringBuilder sb = new StringBuilder(64 + (withPath ? res.path.length * 8 : 0));
+            sb.append("{\"id\":").append(Json.quote((String) id)).append(",\"algorithm\":").append(Json.quote(res.algorithm))
+              .append(",\"found\":").append(res.found()).append(",\"steps\":").append(res.path.length)
+              .append(",\"cost\":").append(res.cost).append(",\"expanded\":").append(res.expanded)
+              .append(",\"ms\":").append(String.format(Locale.ROOT, "%.3f", res.millis()));
+            if (withPath) {
+                sb.append(",\"path\":[");
+                for (int i = 0; i < res.path.length; i++) sb.append(i > 0 ? "," : "").append(res.path[i]);
+                sb.append(']');
+            }
+            return sb.append('}').toString();
+        };
+    }
+
+    private static int checkCell(HexBoard board, long id) throws BadRequest {
+        if (id >= board.grid.size) throw new BadRequest("Cell " + id + " is outside the maze");
+        return (int) id;
+    }
+
+    private synchronized String stats() {
+        return "{\"cached\":" + cache.size() + ",\"cachedCells\":" + cachedCells + ",\"cacheHits\":" + cacheHits + ",\"cacheMisses\":" + cacheMisses
+                + ",\"solves\":" + solves + ",\"rejected\":" + rejected + ",\"queued\":" + solvers.getQueue().size() + "}";
+    }
+
+    // --- CACHE ---
+    private static final class Cached {
+        final Future<HexBoard> board;
+        final long cells;
+
+        Cached(Future<HexBoard> board, long cells) { this.board = board; this.cells = cells; }
+    }
+
+    private HexBoard board(String id) throws Exception {
+        Cached c;
+        synchronized (this) {
+            c = cache.get(id);
+            if (c != null) cacheHits++;
+            else {
+                long[] key = parseId(id);
+                int rows = (int) key[0], cols = (int) key[1];
+                FutureTask<HexBoard> task = new FutureTask<>(() -> HexGenerator.create(rows, cols, key[2]));
+                generators.execute(task); // RejectedExecutionException -> 503, tidak masuk cache
+                cacheMisses++;
+                cache.put(id, c = new Cached(task, (long) rows * cols));
+                cachedCells += c.cells;
+                evict(id);
+            }
+        }
+        try {
+            return c.board.get();
+        } catch (ExecutionException e) {
+            synchronized (this) { if (cache.remove(id, c)) cachedCells -= c.cells; }
+            if (e.getCause() instanceof Exception) throw (Exception) e.getCause();
+            throw e;
+        }
+    }
+
+    // Buang entri paling lama sampai total sel di bawah batas; entri yang baru masuk selalu disimpan
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Cached>> it = cache.entrySet().iterator();
+        while (cachedCells > MAX_CACHED_CELLS && it.hasNext()) {
+            Map.Entry<String, Cached> e = it.next();
+            if (e.getKey().equals(keep)) continue;
+            it.remove();
+            cachedCells -= e.getValue().cells;
+        }
+    }
+
+    // Id berbentuk rows x cols - seed; ukurannya divalidasi sebelum generate dijadwalkan
+    private static long[] parseId(String id) throws BadRequest {
+        int x = id.indexOf('x'), dash = id.indexOf('-', x + 1);
+        int rows, cols; long seed;
+        try {
+            rows = Integer.parseInt(id.substring(0, x)); cols = Integer.parseInt(id.substring(x + 1, dash));
+            seed = Long.parseLong(id.substring(dash + 1));
+        } catch (RuntimeException e) {
+            throw new BadRequest("Unknown maze id: " + id);
+        }
+        if (rows < 3 || cols < 3 || (long) rows * cols > MAX_CELLS) throw new BadRequest("Maze size must be 3x3 to " + MAX_CELLS + " cells: " + rows + "x" + cols);
+        return new long[]{rows, cols, seed};
+    }
+
+    private static long number(Map<String, Object> body, String key, long fallback) throws BadRequest {
+        Object v = body.get(key);
+        if (v == null) return fallback;
+        if (!(v instanceof Long)) throw new BadRequest("\"" + key + "\" must be an integer");
+        return (Long) v;
+    }
+
+    private static String error(String message) { return "{\"error\":" + Json.quote(String.valueOf(message)) + "}"; }
+
+    /**
+     * Parser JSON minimal: objek jadi {@link LinkedHashMap}, array jadi {@link ArrayList},
+     * bilangan bulat jadi Long, pecahan jadi Double.
+     */
+    static final class Json {
+        private final String s;
+        private int pos;
+
+        private Json(String s) { this.s = s; }
+
+        static Map<String, Object> object(String text) throws BadRequest {
+            Json p = new Json(text);
+            p.skipSpace();
+            if (p.pos == text.length()) return new LinkedHashMap<>(); // body kosong
+            Object v = p.value();
+            p.skipSpace();
+            if (p.pos != text.length()) throw p.fail("Trailing characters");
+            if (!(v instanceof Map)) throw new BadRequest("Request body must be a JSON object");
+            @SuppressWarnings("unchecked") Map<String, Object> m = (Map<String, Object>) v;
+            return m;
+        }
+
+        static String quote(String v) {
+            StringBuilder sb = new StringBuilder(v.length() + 2).append('"');
+            for (int i = 0; i < v.length(); i++) {
+                char c = v.charAt(i);
+                if (c == '"' || c == '\\') sb.append('\\').append(c);
+                else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                else sb.append(c);
+            }
+            return sb.append('"').toString();
+        }
+
+        private Object value() throws BadRequest {
+            skipSpace();
+            if (pos >= s.length()) throw fail("Unexpected end");
+            char c = s.charAt(pos);
+            if (c == '{') return parseObject();
+            if (c == '[') return parseArray();
+            if (c == '"') return parseString();
+            if (s.startsWith("true", pos)) { pos += 4; return Boolean.TRUE; }
+            if (s.startsWith("false", pos)) { pos += 5; return Boolean.FALSE; }
+            if (s.startsWith("null", pos)) { pos += 4; return null; }
+            return parseNumber();
+        }
+
+        private Map<String, Object> parseObject() throws BadRequest {
+            Map<String, Object> m = new LinkedHashMap<>();
+            pos++; skipSpace();
+            if (peek() == '}') { pos++; return m; }
+            while (true) {
+                skipSpace();
+                if (peek() != '"') throw fail("Expected key");
+                String key = parseString();
+                skipSpace();
+                if (peek() != ':') throw fail("Expected ':'");
+                pos++;
+                m.put(key, value());
+                skipSpace();
+                char c = peek(); pos++;
+                if (c == '}') return m;
+                if (c != ',') throw fail("Expected ',' or '}'");
+            }
+        }
+
+        private List<Object> parseArray() throws BadRequest {
+            List<Object> list = new ArrayList<>();
+            pos++; skipSpace();
+            if (peek() == ']') { pos++; return list; }
+            while (true) {
+                list.add(value());
+                skipSpace();
+                char c = peek(); pos++;
+                if (c == ']') return list;
+                if (c != ',') throw fail("Expected ',' or ']'");
+            }
+        }
+
+        private String parseString() throws BadRequest {
+            StringBuilder sb = new StringBuilder();
+            pos++;
+            while (true) {
+                if (pos >= s.length()) throw fail("Unterminated string");
+                char c = s.charAt(pos++);
+                if (c == '"') return sb.toString();
+                if (c != '\\') { sb.append(c); continue; }
+                if (pos >= s.length()) throw fail("Unterminated string");
+                char e = s.charAt(pos++);
+                switch (e) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > s.length()) throw fail("Bad unicode escape");
+                        try { sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16)); }
+                        catch (NumberFormatException ex) { throw fail("Bad unicode escape"); }
+                        pos += 4; break;
+                    default: sb.append(e); // \" \\ \/
+                }
+            }
+        }
+
+        private Object parseNumber() throws BadRequest {
+            int start = pos;
+            while (pos < s.length() && "+-0123456789.eE".indexOf(s.charAt(pos)) >= 0) pos++;
+            String num = s.substring(start, pos);
+            try {
+                if (num.indexOf('.') < 0 && num.indexOf('e') < 0 && num.indexOf('E') < 0) return Long.parseLong(num);
+                return Double.parseDouble(num);
+            } catch (NumberFormatException e) {
+                throw fail("Bad value");
+            }
+        }
+
+        private char peek() throws BadRequest {
+            if (pos >= s.length()) throw fail("Unexpected end");
+            return s.charAt(pos);
+        }
+
+        private void skipSpace() { while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++; }
+
+        private BadRequest fail(String what) { return new BadRequest(what + " at offset " + pos); }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example;
+
+import javax.swing.*;
+import java.awt.Rectangle;
+
+/**
+ * Timer render yang hanya berjalan selama ada sumber animasi aktif (replay pencarian,
+ * animasi jalur, denyut solusi, pergerakan pawn dan agen). Setiap frame hanya area kotor
+ * (dirty) yang di-repaint; saat semua sumber mati timer berhenti sehingga panel idle
+ * tidak memakan CPU.
+ */
+final class RenderScheduler {
+
+    // --- SUMBER ANIMASI ---
+    static final int SEARCH = 1;
+    static final int PATH = 2;
+    static final int PULSE = 4;
+    static final int CROWD = 8;
+    static final int FLOW = 16;
+
+    private final JComponent target;
+    private final Runnable onFrame;
+    private final Timer timer;
+    private final Rectangle dirty = new Rectangle();
+    private boolean hasDirty;
+    private int active;
+
+    RenderScheduler(JComponent target, int frameMs, Runnable onFrame) {
+        this.target = target;
+        this.onFrame = onFrame;
+        this.timer = new Timer(frameMs, e -> frame());
+    }
+
+    void setActive(int source, boolean on) {
+        active = on ? (active | source) : (active & ~source);
+        if (active != 0 && !timer.isRunning()) timer.start();
+        else if (active == 0 && timer.isRunning()) { timer.stop(); flush(); }
+    }
+
+    boolean isActive(int source) { return (active & source) != 0; }
+    boolean isRunning() { return timer.isRunning(); }
+
+    void stopAll() { active = 0; timer.stop(); hasDirty = false; }
+
+    void markDirty(int x, int y, int w, int h) {
+        if (w <= 0 || h <= 0) return;
+        if (!hasDirty) { dirty.setBounds(x, y, w, h); hasDirty = true; }
+        else { dirty.add(x, y); dirty.add(x + w, y + h); }
+    }
+
+    void markDirty(Rectangle r) { if (r != null) markDirty(r.x, r.y, r.width, r.height); }
+
+    private void frame() {
+        onFrame.run();
+        flush();
+    }
+
+    // Juga dipanggil langsung untuk perubahan di luar animasi (mis. edit terrain)
+    void flush() {
+        if (!hasDirty) return;
+        target.repaint(dirty.x, dirty.y, dirty.width, dirty.height);
+        hasDirty = false;
+    }
+}
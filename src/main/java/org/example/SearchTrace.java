@@ -0,0 +1,213 @@
+package org.example;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Rekaman langkah pencarian yang ringkas. Setiap event adalah satu varint berisi selisih
+ * id sel terhadap event sebelumnya (zigzag) dengan opcode di 3 bit terbawah, disimpan di
+ * {@code byte[]} yang tumbuh; tetangga hex hanya berselisih 1 atau sekitar {@code cols},
+ * jadi kebanyakan event cukup 1-2 byte. Panel hanya memutar ulang trace ini.
+ * <p>
+ * Karena varint tidak bisa diakses acak, setiap {@link #KEYFRAME_INTERVAL} event dicatat
+ * keyframe di awal node (offset byte, sel basis delta, nomor node), sehingga {@link Cursor}
+ * bisa mulai di node mana pun dengan mendekode paling banyak satu interval.
+ * <pre>
+ *   java org.example.SearchTrace record &lt;maze.hexm&gt; &lt;algorithm&gt; &lt;out.trace&gt; [seed]
+ *   java org.example.SearchTrace dump &lt;file.trace&gt;
+ *   java org.example.SearchTrace diff &lt;a.trace&gt; &lt;b.trace&gt;
+ * </pre>
+ */
+public final class SearchTrace {
+
+    // --- OPCODE ---
+    public static final int EXPAND = 0;   // node diambil dari frontier
+    public static final int DISCOVER = 1; // parent tetangga diisi/diperbarui (relax + masuk frontier)
+    public static final int EXPAND_BACK = 2;   // sama, untuk frontier mundur (dari end)
+    public static final int DISCOVER_BACK = 3;
+    public static final int PATH = 4;     // sel jalur hasil, dicatat berurutan setelah pencarian selesai
+
+    public static boolean isExpand(int op) { return (op & ~EXPAND_BACK) == 0; }
+    public static boolean isBackward(int op) { return (op & 2) != 0; }
+
+    private static final int OP_BITS = 3;
+    private static final char[] OP_NAMES = {'E', 'D', 'e', 'd', 'P'};
+
+    static final int KEYFRAME_INTERVAL = 1024;
+
+    private static final int MAGIC = 0x48455854; // "HEXT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+
+    private final boolean enabled;
+    private byte[] data;
+    private int length, size, nodes, lastCell;
+    // Keyframe k: node pertama, indeks event, offset byte dan sel sebelum event itu
+    private int[] kfNode, kfEvent, kfOffset, kfCell;
+    private int keyframes;
+
+    public SearchTrace() { this(true); }
+
+    private SearchTrace(boolean enabled) {
+        this.enabled = enabled;
+        data = new byte[enabled ? 256 : 0];
+        int kf = enabled ? 16 : 0;
+        kfNode = new int[kf]; kfEvent = new int[kf]; kfOffset = new int[kf]; kfCell = new int[kf];
+    }
+
+    /** Trace kosong yang mengabaikan semua event, untuk benchmark/batch tanpa replay. */
+    public static SearchTrace disabled() { return new SearchTrace(false); }
+
+    public boolean isEnabled() { return enabled; }
+
+    void add(int op, int cell) {
+        if (!enabled) return;
+        if (size == 0 || isExpand(op)) {
+            if (keyframes == 0 || size - kfEvent[keyframes - 1] >= KEYFRAME_INTERVAL) keyframe();
+            nodes++;
+        }
+        int delta = cell - lastCell;
+        long v = ((long) ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL) << OP_BITS | op;
+        if (length + 5 > data.length) data = Arrays.copyOf(data, data.length * 2);
+        while ((v & ~0x7FL) != 0) { data[length++] = (byte) ((v & 0x7F) | 0x80); v >>>= 7; }
+        data[length++] = (byte) v;
+        lastCell = cell; size++;
+    }
+
+    private void keyframe() {
+        if (keyframes == kfNode.length) {
+            int n = keyframes * 2;
+            kfNode = Arrays.copyOf(kfNode, n); kfEvent = Arrays.copyOf(kfEvent, n);
+            kfOffset = Arrays.copyOf(kfOffset, n); kfCell = Arrays.copyOf(kfCell, n);
+        }
+        kfNode[keyframes] = nodes; kfEvent[keyframes] = size; kfOffset[keyframes] = length; kfCell[keyframes] = lastCell;
+        keyframes++;
+    }
+
+    /** Jumlah event. */
+    public int size() { return size; }
+    /** Jumlah node: setiap EXPAND memulai node baru, event sebelum EXPAND pertama ikut node 0. */
+    public int nodes() { return nodes; }
+    /** Ukuran rekaman dalam byte. */
+    public int byteSize() { return length; }
+
+    public Cursor cursor() { return new Cursor(); }
+
+    /** Cursor yang berada tepat di awal node ke-{@code node} (dijepit ke [0, nodes]). */
+    public Cursor cursorAt(int node) {
+        Cursor c = new Cursor();
+        if (keyframes == 0) return c;
+        node = Math.max(0, Math.min(nodes, node));
+        int k = Arrays.binarySearch(kfNode, 0, keyframes, node);
+        if (k < 0) k = -k - 2;
+        c.event = kfEvent[k]; c.offset = kfOffset[k]; c.cell = kfCell[k]; c.node = kfNode[k];
+        while (c.node < node || (c.node == node && !c.atNodeStart())) c.next();
+        return c;
+    }
+
+    /** Pembaca berurutan; {@link #next} mendekode satu event. */
+    public final class Cursor {
+        private int event, offset, cell, op, node;
+
+        private Cursor() {}
+
+        public boolean hasNext() { return event < size; }
+        /** Event berikutnya memulai node baru, atau trace sudah habis. */
+        public boolean atNodeStart() { return event == 0 || event == size || isExpand(data[offset] & ((1 << OP_BITS) - 1)); }
+
+        public void next() {
+            if (event == 0 || isExpand(data[offset] & ((1 << OP_BITS) - 1))) node++;
+            long v = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[offset++];
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            op = (int) (v & ((1 << OP_BITS) - 1));
+            int z = (int) (v >>> OP_BITS);
+            cell += (z >>> 1) ^ -(z & 1);
+            event++;
+        }
+
+        public int op() { return op; }
+        public int cell() { return cell; }
+        /** Jumlah event yang sudah dibaca; indeks event terakhir + 1. */
+        public int event() { return event; }
+        /** Jumlah node yang sudah dimulai. */
+        public int node() { return node; }
+    }
+
+    // --- FILE ---
+    // Header 20 byte (HEADER_SIZE) big-endian: magic "HEXT", versi, jumlah event, jumlah node, panjang data
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC); out.writeInt(VERSION);
+            out.writeInt(size); out.writeInt(nodes); out.writeInt(length);
+            out.write(data, 0, length);
+        }
+    }
+
+    public static SearchTrace read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException(file + ": not a search trace");
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException(file + ": unsupported trace version " + version);
+            int events = in.readInt(), nodes = in.readInt(), length = in.readInt();
+            if (events < 0 || nodes < 0 || length < 0 || events > length) throw new IOException(file + ": corrupt header");
+            // Panjang dicek ke ukuran file sebelum alokasi, supaya header palsu tidak memaksa array 2 GB
+            if (length != Files.size(file) - HEADER_SIZE) throw new IOException(file + ": data length " + length + " does not match file size");
+            byte[] raw = new byte[length];
+            in.readFully(raw);
+            // Dikodekan ulang lewat add() supaya keyframe terbentuk dan data tervalidasi
+            SearchTrace src = new SearchTrace(true);
+            src.data = raw; src.length = length; src.size = events;
+            SearchTrace trace = new SearchTrace(true);
+            try {
+                for (Cursor c = src.cursor(); c.hasNext(); ) {
+                    c.next();
+                    if (c.op() >= OP_NAMES.length) throw new IOException(file + ": bad opcode " + c.op() + " at event " + (c.event() - 1));
+                    if (c.cell() < 0) throw new IOException(file + ": negative cell " + c.cell() + " at event " + (c.event() - 1));
+                    trace.add(c.op(), c.cell());
+                }
+            } catch (ArrayIndexOutOfBoundsException e) {
+                throw new IOException(file + ": truncated trace data", e);
+            }
+            if (trace.nodes != nodes || trace.length != length) throw new IOException(file + ": header does not match data");
+            return trace;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 4 && args[0].equals("record")) {
+            HexBoard board = MazeFile.load(Paths.get(args[1]));
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : board.seed;
+            SolveResult res = HexSolver.solve(board, args[2], new Random(seed));
+            res.trace.write(Paths.get(args[3]));
+            System.out.printf("%s: %d events, %d nodes, %d bytes (%.2f bytes/event)%n", res, res.trace.size(),
+                    res.trace.nodes(), res.trace.byteSize(), res.trace.byteSize() / (double) Math.max(1, res.trace.size()));
+        } else if (args.length >= 2 && args[0].equals("dump")) {
+            SearchTrace trace = read(Paths.get(args[1]));
+            try (PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)))) {
+                for (Cursor c = trace.cursor(); c.hasNext(); ) { c.next(); out.print(OP_NAMES[c.op()]); out.print(' '); out.println(c.cell()); }
+            }
+        } else if (args.length >= 3 && args[0].equals("diff")) {
+            SearchTrace a = read(Paths.get(args[1])), b = read(Paths.get(args[2]));
+            Cursor ca = a.cursor(), cb = b.cursor();
+            while (ca.hasNext() && cb.hasNext()) {
+                ca.next(); cb.next();
+                if (ca.op() != cb.op() || ca.cell() != cb.cell()) {
+                    System.out.printf("differ at event %d (node %d): %c %d vs %c %d%n", ca.event() - 1, ca.node() - 1,
+                            OP_NAMES[ca.op()], ca.cell(), OP_NAMES[cb.op()], cb.cell());
+                    System.exit(1);
+                }
+            }
+            if (a.size() != b.size()) { System.out.printf("common prefix of %d events, lengths %d vs %d%n", ca.event(), a.size(), b.size()); System.exit(1); }
+            System.out.printf("identical: %d events%n", a.size());
+        } else {
+            System.err.println("Usage: SearchTrace record <maze.hexm> <algorithm> <out.trace> [seed] | dump <file> | diff <a> <b>");
+            System.exit(2);
+        }
+    }
+}
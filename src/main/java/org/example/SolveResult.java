@@ -0,0 +1,25 @@
+package org.example;
+
+/** Hasil satu kali pencarian headless: jalur, biaya, statistik dan trace untuk replay. */
+public final class SolveResult {
+    public final String algorithm;
+    public final int[] path; // id sel start -> end, kosong jika tidak ada jalur
+    public final int cost;
+    public final int expanded;
+    public final long nanos;
+    public final SearchTrace trace;
+
+    SolveResult(String algorithm, int[] path, int cost, int expanded, long nanos, SearchTrace trace) {
+        this.algorithm = algorithm; this.path = path; this.cost = cost;
+        this.expanded = expanded; this.nanos = nanos; this.trace = trace;
+        for (int id : path) trace.add(SearchTrace.PATH, id); // jalur ikut terekam untuk export/diff
+    }
+
+    public boolean found() { return path.length > 0; }
+    public double millis() { return nanos / 1_000_000.0; }
+
+    @Override
+    public String toString() {
+        return String.format("%s: steps=%d cost=%d expanded=%d time=%.3fms", algorithm, path.length, cost, expanded, millis());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementasi {@link SolverStatsMXBean}. Setiap solve hanya menambah beberapa
+ * {@link LongAdder} (tanpa lock, tanpa alokasi setelah algoritma pertama kali terlihat), jadi
+ * aman dibiarkan aktif di produksi. Histogram latensi memakai bucket pangkat dua mikrodetik.
+ */
+final class SolverStats implements SolverStatsMXBean {
+
+    static final String OBJECT_NAME = "org.example:type=SolverStats";
+    static final int BUCKETS = 25; // [0, 2us), [2, 4us), ..., [2^24 us, ~)
+
+    static final SolverStats INSTANCE = register(new SolverStats());
+
+    private final ConcurrentHashMap<String, LongAdder> solves = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder(), expanded = new LongAdder(), nanos = new LongAdder();
+    private final LongAccumulator peakFrontier = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    private SolverStats() {
+        for (int i = 0; i < BUCKETS; i++) histogram[i] = new LongAdder();
+    }
+
+    // Gagal register (mis. nama sudah dipakai classloader lain) tidak menghentikan solver
+    private static SolverStats register(SolverStats stats) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stats, new ObjectName(OBJECT_NAME));
+        } catch (Exception | LinkageError ignored) { /* tanpa JMX */ }
+        return stats;
+    }
+
+    void record(String algorithm, int expandedNodes, int frontier, long elapsedNanos) {
+        solves.computeIfAbsent(algorithm, a -> new LongAdder()).increment();
+        total.increment();
+        expanded.add(expandedNodes);
+        nanos.add(elapsedNanos);
+        if (frontier > 0) peakFrontier.accumulate(frontier);
+        long micros = elapsedNanos / 1000;
+        histogram[Math.min(BUCKETS - 1, micros <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(micros))].increment();
+    }
+
+    @Override public long getSolves() { return total.sum(); }
+
+    @Override
+    public Map<String, Long> getSolvesByAlgorithm() {
+        Map<String, Long> m = new TreeMap<>();
+        solves.forEach((a, n) -> m.put(a, n.sum()));
+        return m;
+    }
+
+    @Override public long getNodesExpanded() { return expanded.sum(); }
+    @Override public long getPeakFrontier() { return peakFrontier.get(); }
+
+    @Override
+    public double getMeanLatencyMillis() {
+        long n = total.sum();
+        return n == 0 ? 0 : nanos.sum() / 1e6 / n;
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] h = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) h[i] = histogram[i].sum();
+        return h;
+    }
+
+    @Override
+    public String[] getLatencyBuckets() {
+        String[] labels = new String[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) labels[i] = i == BUCKETS - 1 ? ">=" + micros(1L << i) : "<" + micros(2L << i);
+        return labels;
+    }
+
+    private static String micros(long us) {
+        if (us >= 1_000_000) return us / 1_000_000 + "s";
+        return us >= 1000 ? us / 1000 + "ms" : us + "us";
+    }
+
+    @Override
+    public void reset() {
+        solves.clear(); total.reset(); expanded.reset(); nanos.reset(); peakFrontier.reset();
+        for (LongAdder a : histogram) a.reset();
+    }
+}
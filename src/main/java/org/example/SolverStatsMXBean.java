@@ -0,0 +1,28 @@
+package org.example;
+
+import java.util.Map;
+
+/**
+ * Counter solver yang diekspos lewat JMX ({@value SolverStats#OBJECT_NAME}), misalnya untuk
+ * dibaca JConsole/VisualVM di deployment kiosk yang berjalan lama.
+ */
+public interface SolverStatsMXBean {
+
+    long getSolves();
+
+    Map<String, Long> getSolvesByAlgorithm();
+
+    long getNodesExpanded();
+
+    /** Ukuran frontier terbesar yang pernah terlihat (BFS/DFS/Dijkstra/A*). */
+    long getPeakFrontier();
+
+    double getMeanLatencyMillis();
+
+    /** Jumlah solve per bucket latensi; batas bucket ada di {@link #getLatencyBuckets()}. */
+    long[] getLatencyHistogram();
+
+    String[] getLatencyBuckets();
+
+    void reset();
+}
@@ -0,0 +1,56 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Hash map open-addressing {@code long -> int} tanpa boxing, untuk kunci ruang-waktu
+ * {@code t * size + cell}. Tidak ada remove: pemakai memvalidasi nilai yang ditemukan
+ * dan membangun ulang tabel lewat {@link #clear()} bila sudah terlalu penuh.
+ */
+final class SpaceTimeTable {
+
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int mask, shift, size;
+
+    SpaceTimeTable(int expected) {
+        int cap = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        keys = new long[cap]; values = new int[cap]; mask = cap - 1; shift = 64 - Integer.numberOfTrailingZeros(cap);
+        Arrays.fill(values, MISSING);
+    }
+
+    int size() { return size; }
+
+    int get(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            if (values[i] == MISSING) return MISSING;
+            if (keys[i] == key) return values[i];
+        }
+    }
+
+    void put(long key, int value) {
+        if (size * 2 >= keys.length) grow();
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            if (values[i] == MISSING) { keys[i] = key; values[i] = value; size++; return; }
+            if (keys[i] == key) { values[i] = value; return; }
+        }
+    }
+
+    void clear() {
+        if (size == 0) return;
+        Arrays.fill(values, MISSING);
+        size = 0;
+    }
+
+    private int slot(long key) { return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift); }
+
+    private void grow() {
+        long[] oldKeys = keys; int[] oldValues = values;
+        keys = new long[oldKeys.length * 2]; values = new int[oldValues.length * 2]; mask = keys.length - 1; shift--;
+        Arrays.fill(values, MISSING);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) if (oldValues[i] != MISSING) put(oldKeys[i], oldValues[i]);
+    }
+}
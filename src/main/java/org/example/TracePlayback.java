@@ -0,0 +1,123 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Pemutar ulang {@link SearchTrace} per frame. Satuan putar adalah satu node: EXPAND beserta
+ * DISCOVER yang mengikutinya. Kecepatan 1x sama dengan replay lama (satu node tiap
+ * {@code baseMs}); preset lain mengalikan laju itu, dan {@link #MAX} menghabiskan seluruh
+ * budget frame. Berapa pun node yang dikonsumsi, waktu per frame dibatasi {@code budgetNanos}
+ * dan sisa yang tidak sempat diputar dibuang supaya tidak menumpuk jadi lonjakan berikutnya.
+ * <p>
+ * Seek lewat keyframe {@link SearchTrace}: maju memutar event di antaranya, mundur membatalkan
+ * event di antaranya (sel dilepas hanya oleh event yang pertama menandainya), atau bila target
+ * lebih dekat ke awal, overlay dikosongkan dan diputar dari awal. Biayanya sebanding jarak
+ * seek, bukan panjang trace.
+ */
+final class TracePlayback {
+
+    /** Penerima perubahan overlay; dipanggil di EDT. */
+    interface Sink {
+        /** Sel pertama kali ditemukan frontier maju atau mundur. */
+        void mark(int cell, boolean backward);
+        /** Kebalikan mark saat seek mundur. */
+        void unmark(int cell, boolean backward);
+        void clear();
+    }
+
+    static final int MAX = Integer.MAX_VALUE;
+    static final int[] SPEEDS = {1, 10, 100, MAX};
+    static final String[] SPEED_NAMES = {"Speed: 1x", "Speed: 10x", "Speed: 100x", "Speed: Max"};
+
+    private final SearchTrace trace;
+    private final Sink sink;
+    private final Runnable onFinish;
+    private final int[] firstSeen; // [cell * 2 + mundur] = nomor event yang pertama menandai, 0 = belum
+    private SearchTrace.Cursor cursor;
+    private final int nodes;
+    private final double baseMs;
+    private final long budgetNanos;
+    private int speed = 1, position;
+    private double due;        // node yang sudah jatuh tempo tapi belum diputar
+    private long lastFrame;    // 0 = belum ada frame sejak start/resume
+    private boolean paused, finished;
+
+    TracePlayback(SearchTrace trace, int cells, Sink sink, Runnable onFinish, int baseMs, long budgetNanos) {
+        this.trace = trace; this.sink = sink; this.onFinish = onFinish;
+        this.baseMs = baseMs; this.budgetNanos = budgetNanos;
+        firstSeen = new int[cells * 2];
+        cursor = trace.cursor(); nodes = trace.nodes();
+    }
+
+    int nodes() { return nodes; }
+    int position() { return position; }
+    boolean isPaused() { return paused; }
+    boolean isFinished() { return finished; }
+
+    void setSpeed(int nodesPerTick) { speed = nodesPerTick; due = 0; }
+
+    void setPaused(boolean on) { paused = on; lastFrame = 0; due = 0; }
+
+    /** Pindah ke posisi node tertentu (dijepit ke [0, nodes]); tidak memicu onFinish. */
+    void seek(int node) {
+        node = Math.max(0, Math.min(nodes, node));
+        if (node >= position) playTo(node, Long.MAX_VALUE);
+        else if (node < position - node) { // lebih dekat ke awal: kosongkan lalu putar ulang
+            sink.clear(); Arrays.fill(firstSeen, 0);
+            cursor = trace.cursor(); position = 0;
+            playTo(node, Long.MAX_VALUE);
+        } else {
+            int stop = cursor.event();
+            for (SearchTrace.Cursor c = trace.cursorAt(node); c.event() < stop; ) {
+                c.next();
+                int slot = slot(c);
+                if (slot >= 0 && firstSeen[slot] == c.event()) { firstSeen[slot] = 0; sink.unmark(c.cell(), (slot & 1) != 0); }
+            }
+            cursor = trace.cursorAt(node); position = node;
+        }
+        due = 0;
+    }
+
+    /**
+     * Dipanggil setiap frame render. Mengembalikan jumlah node yang diputar; begitu trace
+     * habis (dan tidak sedang pause) onFinish dipanggil sekali.
+     */
+    int frame() {
+        if (finished || paused) return 0;
+        long now = System.nanoTime();
+        int before = position;
+        if (speed == MAX) playTo(nodes, now + budgetNanos);
+        else {
+            // Frame pertama memutar satu tick dasar supaya 1x langsung terlihat bergerak
+            double elapsedMs = lastFrame == 0 ? baseMs : (now - lastFrame) / 1e6;
+            due += elapsedMs / baseMs * speed;
+            int want = (int) Math.min(nodes - position, (long) due);
+            playTo(position + want, now + budgetNanos);
+            due -= position - before;
+            if (position - before < want) due = 0; // budget habis: jangan menumpuk utang frame
+        }
+        lastFrame = now;
+        if (position == nodes) { finished = true; onFinish.run(); }
+        return position - before;
+    }
+
+    // Memutar node sampai target atau deadline; deadline dicek tiap 64 node
+    private void playTo(int target, long deadline) {
+        while (position < target) {
+            do {
+                cursor.next();
+                int slot = slot(cursor);
+                if (slot >= 0 && firstSeen[slot] == 0) { firstSeen[slot] = cursor.event(); sink.mark(cursor.cell(), (slot & 1) != 0); }
+            } while (!cursor.atNodeStart());
+            position++;
+            if ((position & 63) == 0 && System.nanoTime() >= deadline) break;
+        }
+    }
+
+    // Slot firstSeen untuk event DISCOVER, -1 untuk event lain (EXPAND, PATH)
+    private static int slot(SearchTrace.Cursor c) {
+        int op = c.op();
+        if (op != SearchTrace.DISCOVER && op != SearchTrace.DISCOVER_BACK) return -1;
+        return c.cell() * 2 + (SearchTrace.isBackward(op) ? 1 : 0);
+    }
+}
@@ -0,0 +1,194 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Rute start -> semua waypoint (urutan bebas) -> end. Biaya antar terminal dihitung dengan
+ * satu Dijkstra one-to-all per terminal, berjalan paralel; urutan waypoint dicari eksak
+ * (DP Held-Karp) sampai {@link #EXACT_MAX} waypoint, di atas itu nearest neighbour yang
+ * diperbaiki dengan 2-opt dan Or-opt. Rute akhir disambung dari A* per leg.
+ * <p>
+ * Biaya berarah d(a, b) = D(a, b) - cost(a) dengan D jumlah biaya semua sel di jalur
+ * (simetris), jadi total rute = jumlah D - konstanta dan urutan cukup dioptimasi pada D.
+ */
+final class WaypointPlanner {
+
+    public static final String ALGORITHM = "Waypoints";
+    static final int EXACT_MAX = 12;
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private WaypointPlanner() {}
+
+    static SolveResult plan(HexBoard board, int from, int[] waypoints, int to) {
+        long t0 = System.nanoTime();
+        int k = waypoints.length;
+        int[] terminals = new int[k + 2];
+        terminals[0] = from; System.arraycopy(waypoints, 0, terminals, 1, k); terminals[k + 1] = to;
+        int[] expanded = new int[k + 1];
+        long[][] d = pairwise(board, terminals, expanded);
+        int[] order = k <= EXACT_MAX ? orderExact(d, k) : orderHeuristic(d, k);
+        int total = Arrays.stream(expanded).sum();
+        if (order == null || routeLength(d, order) >= INF) return new SolveResult(ALGORITHM, new int[0], 0, total, System.nanoTime() - t0, SearchTrace.disabled());
+
+        // Jalur per leg paralel, lalu disambung tanpa menduplikasi sel sambungan
+        SolveResult[] legs = new SolveResult[order.length - 1];
+        IntStream.range(0, legs.length).parallel().forEach(i ->
+                legs[i] = HexSolver.solve(board, "A*", terminals[order[i]], terminals[order[i + 1]], null, false));
+        int len = 1;
+        for (SolveResult leg : legs) { len += leg.path.length - 1; total += leg.expanded; }
+        int[] path = new int[len];
+        path[0] = from;
+        int p = 1, cost = board.cost(from);
+        for (SolveResult leg : legs) {
+            for (int i = 1; i < leg.path.length; i++) { path[p++] = leg.path[i]; cost += board.cost(leg.path[i]); }
+        }
+        return new SolveResult(ALGORITHM, path, cost, total, System.nanoTime() - t0, SearchTrace.disabled());
+    }
+
+    // --- BIAYA PASANGAN ---
+    // D[i][j] simetris; satu Dijkstra per terminal sumber (end tidak perlu), berhenti begitu
+    // semua terminal lain sudah settled.
+    static long[][] pairwise(HexBoard board, int[] terminals, int[] expanded) {
+        int n = terminals.length;
+        long[][] d = new long[n][n];
+        IntStream.range(0, n - 1).parallel().forEach(i -> {
+            int[] dist = dijkstra(board, terminals[i], terminals, expanded, i);
+            long own = board.cost(terminals[i]);
+            for (int j = 0; j < n; j++) d[i][j] = dist[terminals[j]] == Integer.MAX_VALUE ? INF : dist[terminals[j]] + own;
+        });
+        for (int j = 0; j < n - 1; j++) d[n - 1][j] = d[j][n - 1];
+        return d;
+    }
+
+    private static int[] dijkstra(HexBoard board, int source, int[] terminals, int[] expanded, int slot) {
+        HexGrid grid = board.grid;
+        int[] dist = new int[grid.size], nbr = new int[HexGrid.MAX_DEGREE];
+        boolean[] target = new boolean[grid.size], closed = new boolean[grid.size];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        int remaining = 0;
+        for (int t : terminals) if (!target[t]) { target[t] = true; remaining++; }
+        IndexedHeap open = new IndexedHeap(grid.size);
+        dist[source] = 0; open.update(source, 0);
+        int count = 0;
+        while (!open.isEmpty() && remaining > 0) {
+            int u = open.pop();
+            closed[u] = true; count++;
+            if (target[u]) remaining--;
+            int deg = grid.neighbors(u, nbr);
+            for (int k = 0; k < deg; k++) {
+                int v = nbr[k];
+                if (board.isWall(v) || closed[v]) continue;
+                int nd = dist[u] + board.cost(v);
+                if (nd < dist[v]) { dist[v] = nd; open.update(v, nd); }
+            }
+        }
+        expanded[slot] = count;
+        return dist;
+    }
+
+    // --- URUTAN ---
+    // Urutan berisi indeks terminal: 0, permutasi 1..k, k + 1
+
+    static int[] orderExact(long[][] d, int k) {
+        int end = k + 1, full = (1 << k) - 1;
+        if (k == 0) return new int[]{0, end};
+        long[][] dp = new long[1 << k][k];
+        int[][] prev = new int[1 << k][k];
+        for (long[] row : dp) Arrays.fill(row, INF);
+        for (int j = 0; j < k; j++) { dp[1 << j][j] = d[0][j + 1]; prev[1 << j][j] = -1; }
+        for (int mask = 1; mask <= full; mask++) {
+            for (int j = 0; j < k; j++) {
+                long cur = dp[mask][j];
+                if (cur >= INF || (mask & (1 << j)) == 0) continue;
+                for (int next = 0; next < k; next++) {
+                    if ((mask & (1 << next)) != 0) continue;
+                    int nm = mask | (1 << next);
+                    long c = cur + d[j + 1][next + 1];
+                    if (c < dp[nm][next]) { dp[nm][next] = c; prev[nm][next] = j; }
+                }
+            }
+        }
+        int last = -1; long best = INF;
+        for (int j = 0; j < k; j++) {
+            long c = dp[full][j] >= INF ? INF : dp[full][j] + d[j + 1][end];
+            if (c < best) { best = c; last = j; }
+        }
+        if (last < 0) return null;
+        int[] order = new int[k + 2];
+        order[k + 1] = end;
+        for (int mask = full, j = last, i = k; j >= 0; i--) { order[i] = j + 1; int pj = prev[mask][j]; mask &= ~(1 << j); j = pj; }
+        return order;
+    }
+
+    static int[] orderHeuristic(long[][] d, int k) {
+        int end = k + 1;
+        int[] order = new int[k + 2];
+        boolean[] used = new boolean[k + 2];
+        order[k + 1] = end;
+        for (int i = 1, cur = 0; i <= k; i++) { // nearest neighbour dari start
+            int best = -1;
+            for (int j = 1; j <= k; j++) if (!used[j] && (best < 0 || d[cur][j] < d[cur][best])) best = j;
+            order[i] = best; used[best] = true; cur = best;
+        }
+        boolean improved = true;
+        while (improved) improved = twoOpt(d, order) | orOpt(d, order);
+        return order;
+    }
+
+    // Membalik order[i..j] bila dua sisi barunya lebih murah
+    private static boolean twoOpt(long[][] d, int[] s) {
+        boolean any = false;
+        for (int i = 1; i < s.length - 2; i++) {
+            for (int j = i + 1; j < s.length - 1; j++) {
+                long delta = d[s[i - 1]][s[j]] + d[s[i]][s[j + 1]] - d[s[i - 1]][s[i]] - d[s[j]][s[j + 1]];
+                if (delta < 0) { reverse(s, i, j); any = true; }
+            }
+        }
+        return any;
+    }
+
+    // Memindahkan potongan 1..3 waypoint (boleh terbalik) ke posisi lain yang lebih murah
+    private static boolean orOpt(long[][] d, int[] s) {
+        boolean any = false;
+        for (int len = 1; len <= 3; len++) {
+            for (int i = 1; i + len - 1 < s.length - 1; i++) {
+                int a = s[i - 1], first = s[i], last = s[i + len - 1], b = s[i + len];
+                long gain = d[a][first] + d[last][b] - d[a][b];
+                int bestP = -1; long bestAdd = gain; boolean bestRev = false;
+                for (int p = 0; p < s.length - 1; p++) {
+                    if (p >= i - 1 && p <= i + len - 1) continue;
+                    long base = d[s[p]][s[p + 1]];
+                    long add = d[s[p]][first] + d[last][s[p + 1]] - base, addRev = d[s[p]][last] + d[first][s[p + 1]] - base;
+                    if (add < bestAdd) { bestAdd = add; bestP = p; bestRev = false; }
+                    if (addRev < bestAdd) { bestAdd = addRev; bestP = p; bestRev = true; }
+                }
+                if (bestP < 0) continue;
+                int[] seg = Arrays.copyOfRange(s, i, i + len);
+                if (bestRev) reverse(seg, 0, len - 1);
+                if (bestP < i) { // geser [bestP+1, i) ke kanan
+                    System.arraycopy(s, bestP + 1, s, bestP + 1 + len, i - bestP - 1);
+                    System.arraycopy(seg, 0, s, bestP + 1, len);
+                } else { // geser [i+len, bestP] ke kiri
+                    System.arraycopy(s, i + len, s, i, bestP - i - len + 1);
+                    System.arraycopy(seg, 0, s, bestP - len + 1, len);
+                }
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    private static void reverse(int[] a, int i, int j) {
+        for (; i < j; i++, j--) { int t = a[i]; a[i] = a[j]; a[j] = t; }
+    }
+
+    static long routeLength(long[][] d, int[] order) {
+        long sum = 0;
+        for (int i = 0; i + 1 < order.length; i++) {
+            if (d[order[i]][order[i + 1]] >= INF) return INF;
+            sum += d[order[i]][order[i + 1]];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Mode dua arah harus menemukan jalur sependek versi satu arahnya, dengan atau tanpa bobot. */
+class BidirectionalSearchTest {
+
+    private static final int SEEDS = 30, QUERIES = 5;
+
+    @Test
+    void weightedBidirectionalMatchesPlainDijkstra() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = Reference.maze(seed);
+            Random rand = new Random(seed);
+            for (int q = 0; q <= QUERIES; q++) {
+                int from = q == 0 ? b.start : Reference.randomOpenCell(b, rand), to = q == 0 ? b.end : Reference.randomOpenCell(b, rand);
+                int expected = Reference.dijkstraCost(b, from, to);
+                for (String algorithm : new String[]{"Bi-Dijkstra", "Bi-A*"}) {
+                    SolveResult res = HexSolver.solve(b, algorithm, from, to, new Random(seed), false);
+                    assertEquals(expected, Reference.cost(res), algorithm + " seed " + seed + " " + from + "->" + to);
+                    if (res.found()) Reference.assertValidPath(b, res, from, to);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unweightedBidirectionalMatchesPlainBfs() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = Reference.maze(seed);
+            Random rand = new Random(seed);
+            for (int q = 0; q <= QUERIES; q++) {
+                int from = q == 0 ? b.start : Reference.randomOpenCell(b, rand), to = q == 0 ? b.end : Reference.randomOpenCell(b, rand);
+                int expected = Reference.bfsSteps(b, from, to);
+                for (String algorithm : new String[]{"BFS", "Bi-BFS"}) {
+                    SolveResult res = HexSolver.solve(b, algorithm, from, to, new Random(seed), false);
+                    assertEquals(expected, Reference.steps(res), algorithm + " seed " + seed + " " + from + "->" + to);
+                    if (res.found()) Reference.assertValidPath(b, res, from, to);
+                }
+            }
+        }
+    }
+}
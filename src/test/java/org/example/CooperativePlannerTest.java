@@ -0,0 +1,50 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Pawn WHCA* tidak pernah bertabrakan atau bertukar sel, hanya melangkah ke tetangga, dan semuanya tiba. */
+class CooperativePlannerTest {
+
+    private static final int SEEDS = 12;
+
+    @Test
+    void agentsNeverCollideAndAllArrive() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = HexGenerator.generate(31, 31, seed);
+            int[] starts = CooperativePlanner.spawnCells(b, 40, new Random(seed));
+            CooperativePlanner crowd = new CooperativePlanner(b, starts, CooperativePlanner.DEFAULT_WINDOW);
+            int n = crowd.agentCount(), maxSteps = 20 * b.grid.size;
+            int[] prev = starts.clone();
+            int[] nbr = new int[HexGrid.MAX_DEGREE];
+            int steps = 0;
+            boolean running = true;
+            while (running) {
+                assertTrue(++steps <= maxSteps, "seed " + seed + ": agents did not arrive in " + maxSteps + " steps");
+                running = crowd.step(1_000_000_000L);
+                for (int a = 0; a < n; a++) {
+                    int p = crowd.pos[a];
+                    assertFalse(b.isWall(p), "agent " + a + " stands on a wall");
+                    assertTrue(p == prev[a] || isNeighbor(b, prev[a], p, nbr), "agent " + a + " jumped " + prev[a] + "->" + p);
+                    if (crowd.isArrived(a)) continue;
+                    for (int o = a + 1; o < n; o++) {
+                        if (crowd.isArrived(o)) continue;
+                        assertNotEquals(p, crowd.pos[o], "seed " + seed + " step " + steps + ": agents " + a + " and " + o + " share a cell");
+                        assertFalse(p == prev[o] && crowd.pos[o] == prev[a] && p != prev[a], "agents " + a + " and " + o + " swapped cells");
+                    }
+                }
+                System.arraycopy(crowd.pos, 0, prev, 0, n);
+            }
+            for (int a = 0; a < n; a++) assertTrue(crowd.isArrived(a), "agent " + a + " never arrived");
+        }
+    }
+
+    private static boolean isNeighbor(HexBoard b, int a, int c, int[] nbr) {
+        int deg = b.grid.neighbors(a, nbr);
+        for (int k = 0; k < deg; k++) if (nbr[k] == c) return true;
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Query lewat distance field ke end harus seoptimal Dijkstra dari start mana pun. */
+class DistanceFieldTest {
+
+    private static final int SEEDS = 30, QUERIES = 5;
+
+    @Test
+    void matchesPlainDijkstraFromAnyStart() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = Reference.maze(seed);
+            Random rand = new Random(seed);
+            for (int q = 0; q <= QUERIES; q++) {
+                int from = q == 0 ? b.start : Reference.randomOpenCell(b, rand);
+                SolveResult res = HexSolver.solve(b, DistanceField.ALGORITHM, from, b.end, null, false);
+                assertEquals(Reference.dijkstraCost(b, from, b.end), Reference.cost(res), "Field seed " + seed + " from " + from);
+                if (res.found()) Reference.assertValidPath(b, res, from, b.end);
+            }
+        }
+    }
+
+    @Test
+    void rebuildsAfterTerrainEdit() {
+        HexBoard b = HexGenerator.generate(51, 51, 4);
+        Random rand = new Random(4);
+        for (int e = 0; e < 20; e++) {
+            int id;
+            do id = rand.nextInt(b.grid.size); while (id == b.start || id == b.end);
+            b.setType(id, b.isWall(id) ? HexBoard.MUD : HexBoard.WALL);
+            SolveResult res = HexSolver.solve(b, DistanceField.ALGORITHM, b.start, b.end, null, false);
+            assertEquals(Reference.dijkstraCost(b, b.start, b.end), Reference.cost(res), "after edit " + e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** FlowField yang diperbaiki per edit terrain harus sama dengan field yang dibangun ulang dari awal. */
+class FlowFieldTest {
+
+    private static final int SEEDS = 10, EDITS = 300, CHECK_EVERY = 10;
+    private static final int[] TYPES = {HexBoard.WALL, HexBoard.GRASS, HexBoard.MUD, HexBoard.WATER};
+
+    @Test
+    void repairAfterEditsMatchesFreshField() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = HexGenerator.generate(61, 61, seed);
+            FlowField flow = new FlowField(b);
+            Random rand = new Random(seed);
+            for (int e = 1; e <= EDITS; e++) {
+                int id = editableCell(b, rand);
+                int oldCost = b.isWall(id) ? FlowField.UNREACHABLE : b.cost(id);
+                b.setType(id, TYPES[rand.nextInt(TYPES.length)]);
+                flow.cellChanged(id, oldCost);
+                if (e % CHECK_EVERY != 0) continue;
+                FlowField fresh = new FlowField(b);
+                for (int cell = 0; cell < b.grid.size; cell++) {
+                    assertEquals(fresh.distance(cell), flow.distance(cell), "seed " + seed + " after " + e + " edits, cell " + cell);
+                    assertFollowsGradient(b, flow, cell);
+                }
+                // Jarak field ke end + cost sel awal = biaya jalur optimal ala SolveResult
+                int d = flow.distance(b.start);
+                assertEquals(Reference.dijkstraCost(b, b.start, b.end), d == FlowField.UNREACHABLE ? Reference.UNREACHABLE : d + b.cost(b.start));
+            }
+        }
+    }
+
+    // Arah field menuju tetangga terbuka yang jaraknya tepat berkurang sebesar cost tetangga itu
+    private static void assertFollowsGradient(HexBoard b, FlowField flow, int cell) {
+        int d = flow.distance(cell);
+        if (d == FlowField.UNREACHABLE || cell == b.end || b.isWall(cell)) return;
+        int next = flow.next(cell);
+        assertNotEquals(cell, next, "reachable cell " + cell + " has no direction");
+        assertFalse(b.isWall(next), "cell " + cell + " points into a wall");
+        assertEquals(d, flow.distance(next) + b.cost(next), "cell " + cell + " does not follow the gradient");
+    }
+
+    private static int editableCell(HexBoard b, Random rand) {
+        int id;
+        do id = rand.nextInt(b.grid.size); while (id == b.start || id == b.end);
+        return id;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Heuristik A* (jarak hex kubus dikali biaya minimum) tidak pernah melebihi biaya sebenarnya,
+ * jadi A* harus sama optimalnya dengan Dijkstra.
+ */
+class HexHeuristicTest {
+
+    private static final int SEEDS = 30, QUERIES = 5;
+
+    @Test
+    void hexDistanceIsExactOnOpenBoard() {
+        HexBoard open = new HexBoard(40, 55, 0);
+        for (int id = 0; id < open.grid.size; id++) open.setType(id, HexBoard.GRASS);
+        Random rand = new Random(5);
+        for (int q = 0; q < 200; q++) {
+            int a = rand.nextInt(open.grid.size), c = rand.nextInt(open.grid.size);
+            assertEquals(Reference.bfsSteps(open, a, c) - 1, open.grid.hexDistance(a, c), a + "->" + c);
+        }
+    }
+
+    @Test
+    void heuristicIsAdmissibleOnMazes() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = Reference.maze(seed);
+            Random rand = new Random(seed);
+            for (int q = 0; q < QUERIES; q++) {
+                int from = Reference.randomOpenCell(b, rand), to = Reference.randomOpenCell(b, rand);
+                int optimal = Reference.dijkstraCost(b, from, to);
+                if (optimal == Reference.UNREACHABLE) continue;
+                // Heuristik memperkirakan biaya setelah sel from, jadi dibandingkan tanpa cost(from)
+                assertTrue(b.grid.hexDistance(from, to) * HexBoard.MIN_COST <= optimal - b.cost(from), "seed " + seed + " " + from + "->" + to);
+            }
+        }
+    }
+
+    @Test
+    void aStarMatchesPlainDijkstra() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = Reference.maze(seed);
+            Random rand = new Random(seed);
+            for (int q = 0; q <= QUERIES; q++) {
+                int from = q == 0 ? b.start : Reference.randomOpenCell(b, rand), to = q == 0 ? b.end : Reference.randomOpenCell(b, rand);
+                int expected = Reference.dijkstraCost(b, from, to);
+                for (String algorithm : new String[]{"Dijkstra", "A*"}) {
+                    SolveResult res = HexSolver.solve(b, algorithm, from, to, new Random(seed), false);
+                    assertEquals(expected, Reference.cost(res), algorithm + " seed " + seed + " " + from + "->" + to);
+                    if (res.found()) Reference.assertValidPath(b, res, from, to);
+                }
+            }
+        }
+    }
+}
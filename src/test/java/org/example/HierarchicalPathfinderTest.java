@@ -0,0 +1,34 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** HPA* boleh suboptimal, tapi hanya sebatas yang dinyatakan di javadoc HierarchicalPathfinder. */
+class HierarchicalPathfinderTest {
+
+    private static final int SEEDS = 30, QUERIES = 5;
+    private static final double START_END_BOUND = 1.05, ANY_PAIR_BOUND = 1.25;
+
+    @Test
+    void staysWithinStatedSuboptimality() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = HexGenerator.generate(128, 128, seed);
+            HierarchicalPathfinder hpa = new HierarchicalPathfinder(b, HierarchicalPathfinder.DEFAULT_CLUSTER_SIZE);
+            Random rand = new Random(seed);
+            for (int q = 0; q <= QUERIES; q++) {
+                int from = q == 0 ? b.start : Reference.randomOpenCell(b, rand), to = q == 0 ? b.end : Reference.randomOpenCell(b, rand);
+                int optimal = Reference.dijkstraCost(b, from, to);
+                SolveResult res = hpa.query(from, to, SearchTrace.disabled());
+                String where = "HPA* seed " + seed + " " + from + "->" + to;
+                if (optimal == Reference.UNREACHABLE) { assertFalse(res.found(), where); continue; }
+                assertTrue(res.found(), where);
+                Reference.assertValidPath(b, res, from, to);
+                double bound = q == 0 ? START_END_BOUND : ANY_PAIR_BOUND;
+                assertTrue(res.cost >= optimal && res.cost <= optimal * bound, where + ": " + res.cost + " vs optimal " + optimal);
+            }
+        }
+    }
+}
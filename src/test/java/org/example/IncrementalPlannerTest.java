@@ -0,0 +1,39 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** LPA* memperbaiki hasilnya per edit terrain; setelah rangkaian edit acak hasilnya harus sama dengan solve penuh. */
+class IncrementalPlannerTest {
+
+    private static final int SEEDS = 10, EDITS = 300, CHECK_EVERY = 10;
+    private static final int[] TYPES = {HexBoard.WALL, HexBoard.GRASS, HexBoard.MUD, HexBoard.WATER};
+
+    @Test
+    void afterEditsMatchesFullResolve() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = HexGenerator.generate(61, 61, seed);
+            IncrementalPlanner lpa = new IncrementalPlanner(b, b.start, b.end);
+            Random rand = new Random(seed);
+            assertEquals(Reference.dijkstraCost(b, b.start, b.end), Reference.cost(lpa.solve(SearchTrace.disabled())));
+            for (int e = 1; e <= EDITS; e++) {
+                int id = editableCell(b, rand);
+                b.setType(id, TYPES[rand.nextInt(TYPES.length)]);
+                lpa.cellChanged(id);
+                if (e % CHECK_EVERY != 0) continue;
+                SolveResult res = lpa.solve(SearchTrace.disabled());
+                assertEquals(Reference.dijkstraCost(b, b.start, b.end), Reference.cost(res), "LPA* seed " + seed + " after " + e + " edits");
+                if (res.found()) Reference.assertValidPath(b, res, b.start, b.end);
+            }
+        }
+    }
+
+    private static int editableCell(HexBoard b, Random rand) {
+        int id;
+        do id = rand.nextInt(b.grid.size); while (id == b.start || id == b.end);
+        return id;
+    }
+}
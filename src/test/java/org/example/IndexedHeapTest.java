@@ -0,0 +1,60 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Operasi acak pada IndexedHeap dibandingkan dengan pencarian minimum linear di array biasa. */
+class IndexedHeapTest {
+
+    private static final int CAPACITY = 500, OPS = 200_000;
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    @Test
+    void randomOperationsMatchLinearScan() {
+        for (int seed = 1; seed <= 5; seed++) {
+            Random rand = new Random(seed);
+            IndexedHeap heap = new IndexedHeap(CAPACITY);
+            long[] keys = new long[CAPACITY];
+            Arrays.fill(keys, ABSENT);
+            int size = 0;
+            for (int op = 0; op < OPS; op++) {
+                int id = rand.nextInt(CAPACITY), kind = rand.nextInt(10);
+                if (kind < 5) {
+                    // Key kecil agar banyak seri; update bisa naik maupun turun
+                    long k = rand.nextInt(64);
+                    if (keys[id] == ABSENT) size++;
+                    keys[id] = k;
+                    heap.update(id, k);
+                } else if (kind < 8) {
+                    if (size == 0) { assertTrue(heap.isEmpty()); continue; }
+                    long min = minKey(keys);
+                    assertEquals(min, heap.peekKey());
+                    int top = heap.pop();
+                    assertEquals(min, keys[top], "popped id " + top + " is not a minimum");
+                    keys[top] = ABSENT; size--;
+                } else if (kind < 9) {
+                    if (keys[id] != ABSENT) size--;
+                    keys[id] = ABSENT;
+                    heap.remove(id);
+                } else {
+                    assertEquals(keys[id] != ABSENT, heap.contains(id));
+                    if (keys[id] != ABSENT) assertEquals(keys[id], heap.key(id));
+                }
+                assertEquals(size, heap.size());
+            }
+            heap.clear();
+            assertTrue(heap.isEmpty());
+            for (int id = 0; id < CAPACITY; id++) assertFalse(heap.contains(id));
+        }
+    }
+
+    private static long minKey(long[] keys) {
+        long min = Long.MAX_VALUE;
+        for (long k : keys) if (k != ABSENT && k < min) min = k;
+        return min;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** File maze biner: round trip tanpa kehilangan sel, dan nibble tipe yang tidak dikenal ditolak. */
+class MazeFileTest {
+
+    @Test
+    void roundTripKeepsEveryCell() throws IOException {
+        Path file = Files.createTempFile("maze", ".hexm");
+        try {
+            HexBoard b = HexGenerator.generate(57, 43, 11); // jumlah sel ganjil: ada nibble padding
+            MazeFile.save(b, file);
+            HexBoard loaded = MazeFile.load(file);
+            assertEquals(b.rows, loaded.rows);
+            assertEquals(b.cols, loaded.cols);
+            assertEquals(b.seed, loaded.seed);
+            assertTrue(Arrays.equals(b.gridType, loaded.gridType));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void rejectsUnknownCellType() throws IOException {
+        Path file = Files.createTempFile("maze", ".hexm");
+        try {
+            MazeFile.save(HexGenerator.generate(31, 31, 3), file);
+            byte[] data = Files.readAllBytes(file);
+            data[MazeFile.HEADER_SIZE + 100] = (byte) ((data[MazeFile.HEADER_SIZE + 100] & 0x0F) | 0x70);
+            Files.write(file, data);
+            try {
+                MazeFile.load(file);
+                fail("cell type 7 was accepted");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().startsWith("Bad cell type 7"), e.getMessage());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Solver acuan yang sengaja polos (PriorityQueue dengan entri basi, ArrayDeque) sebagai
+ * pembanding solver yang dioptimasi, plus maze ber-seed dan pemeriksaan jalur yang dipakai
+ * bersama oleh test. Konvensi biaya sama dengan {@link SolveResult}: biaya jalur adalah
+ * jumlah cost semua sel di jalur, termasuk sel awal.
+ */
+final class Reference {
+
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private Reference() {}
+
+    /** Maze ber-seed dengan ukuran bervariasi; setiap seed ketiga lewat generator tile. */
+    static HexBoard maze(int seed) {
+        return seed % 3 == 0 ? HexGenerator.generateTiled(70, 90, seed) : HexGenerator.generate(41 + seed, 37 + 2 * seed, seed);
+    }
+
+    static int dijkstraCost(HexBoard board, int from, int to) {
+        HexGrid grid = board.grid;
+        int[] dist = new int[grid.size], nbr = new int[HexGrid.MAX_DEGREE];
+        Arrays.fill(dist, UNREACHABLE);
+        PriorityQueue<int[]> open = new PriorityQueue<>((a, b) -> Integer.compare(a[0], b[0]));
+        dist[from] = board.cost(from);
+        open.add(new int[]{dist[from], from});
+        while (!open.isEmpty()) {
+            int[] e = open.poll();
+            int u = e[1];
+            if (e[0] > dist[u]) continue;
+            if (u == to) return dist[u];
+            int deg = grid.neighbors(u, nbr);
+            for (int k = 0; k < deg; k++) {
+                int v = nbr[k];
+                if (board.isWall(v)) continue;
+                int d = dist[u] + board.cost(v);
+                if (d < dist[v]) { dist[v] = d; open.add(new int[]{d, v}); }
+            }
+        }
+        return UNREACHABLE;
+    }
+
+    /** Jumlah sel di jalur terpendek (tanpa bobot), termasuk kedua ujung. */
+    static int bfsSteps(HexBoard board, int from, int to) {
+        HexGrid grid = board.grid;
+        int[] steps = new int[grid.size], nbr = new int[HexGrid.MAX_DEGREE];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        steps[from] = 1; queue.add(from);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            if (u == to) return steps[u];
+            int deg = grid.neighbors(u, nbr);
+            for (int k = 0; k < deg; k++) {
+                int v = nbr[k];
+                if (board.isWall(v) || steps[v] != 0) continue;
+                steps[v] = steps[u] + 1; queue.add(v);
+            }
+        }
+        return UNREACHABLE;
+    }
+
+    static int cost(SolveResult res) { return res.found() ? res.cost : UNREACHABLE; }
+
+    static int steps(SolveResult res) { return res.found() ? res.path.length : UNREACHABLE; }
+
+    static int randomOpenCell(HexBoard board, Random rand) {
+        int id;
+        do id = rand.nextInt(board.grid.size); while (board.isWall(id));
+        return id;
+    }
+
+    /** Jalur bersambung lewat sel terbuka dan biayanya sama dengan jumlah cost sel-selnya. */
+    static void assertValidPath(HexBoard b, SolveResult res, int from, int to) {
+        int[] path = res.path, nbr = new int[HexGrid.MAX_DEGREE];
+        assertEquals(from, path[0]);
+        assertEquals(to, path[path.length - 1]);
+        int cost = b.cost(path[0]);
+        for (int i = 1; i < path.length; i++) {
+            assertFalse(b.isWall(path[i]), res.algorithm + " passes through a wall at " + path[i]);
+            int deg = b.grid.neighbors(path[i - 1], nbr);
+            boolean adjacent = false;
+            for (int k = 0; k < deg; k++) adjacent |= nbr[k] == path[i];
+            assertTrue(adjacent, res.algorithm + " jumps from " + path[i - 1] + " to " + path[i]);
+            cost += b.cost(path[i]);
+        }
+        assertEquals(cost, res.cost, res.algorithm + " reported cost");
+    }
+}
@@ -0,0 +1,70 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Trace yang ditulis terbaca ulang event per event; file rusak atau palsu ditolak sebagai IOException. */
+class SearchTraceTest {
+
+    private static final int MAGIC = 0x48455854;
+
+    @Test
+    void fileRoundTripKeepsEveryEvent() throws IOException {
+        HexBoard b = HexGenerator.generate(61, 61, 2);
+        SearchTrace trace = HexSolver.solve(b, "Bi-A*", new Random(2)).trace;
+        Path file = Files.createTempFile("search", ".trace");
+        try {
+            trace.write(file);
+            SearchTrace loaded = SearchTrace.read(file);
+            assertEquals(trace.size(), loaded.size());
+            assertEquals(trace.nodes(), loaded.nodes());
+            SearchTrace.Cursor a = trace.cursor(), c = loaded.cursor();
+            while (a.hasNext()) {
+                assertTrue(c.hasNext());
+                a.next(); c.next();
+                assertEquals(a.op(), c.op(), "event " + (a.event() - 1));
+                assertEquals(a.cell(), c.cell(), "event " + (a.event() - 1));
+            }
+            assertFalse(c.hasNext());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void rejectsUnknownOpcode() throws IOException {
+        assertRejected(1, 1, 1, new byte[]{0x05}, "bad opcode 5");
+    }
+
+    @Test
+    void rejectsLengthBeyondFileSize() throws IOException {
+        assertRejected(1, 1, Integer.MAX_VALUE, new byte[]{0x00}, "data length");
+    }
+
+    private static void assertRejected(int events, int nodes, int length, byte[] data, String message) throws IOException {
+        Path file = Files.createTempFile("forged", ".trace");
+        try {
+            try (OutputStream os = Files.newOutputStream(file); DataOutputStream out = new DataOutputStream(os)) {
+                out.writeInt(MAGIC); out.writeInt(1);
+                out.writeInt(events); out.writeInt(nodes); out.writeInt(length);
+                out.write(data);
+            }
+            try {
+                SearchTrace.read(file);
+                fail("forged trace was accepted");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains(message), e.getMessage());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Maze tile harus satu komponen dengan end terjangkau, dan sama untuk seed yang sama berapa pun jumlah thread-nya. */
+class TiledGeneratorTest {
+
+    @Test
+    void singleTileReachesEnd() {
+        // Start dan end satu tile; seed ini dulu meninggalkan end terkurung dinding
+        long[][] cases = {{57, 56, 17}, {75, 69, 35}, {42, 65, 99}};
+        for (long[] c : cases) assertConnected(HexGenerator.generateTiled((int) c[0], (int) c[1], c[2]), "single tile " + Arrays.toString(c));
+        for (int seed = 0; seed < 200; seed++) {
+            int rows = 3 + seed % 97, cols = 3 + (seed * 7) % 113;
+            assertConnected(HexGenerator.generateTiled(rows, cols, seed), rows + "x" + cols + " seed " + seed);
+        }
+    }
+
+    @Test
+    void smallTilesStayConnected() {
+        for (int seed = 1; seed <= 20; seed++) {
+            HexBoard b = HexGenerator.generateTiled(60 + seed, 90 - seed, seed, 8, ForkJoinPool.commonPool());
+            assertConnected(b, "tile 8 seed " + seed);
+        }
+    }
+
+    @Test
+    void sameOutputForAnyThreadCount() {
+        ForkJoinPool one = new ForkJoinPool(1), four = new ForkJoinPool(4);
+        try {
+            for (int seed = 1; seed <= 5; seed++) {
+                HexBoard a = HexGenerator.generateTiled(300, 280, seed, 64, one), b = HexGenerator.generateTiled(300, 280, seed, 64, four);
+                assertTrue(Arrays.equals(a.gridType, b.gridType), "seed " + seed);
+            }
+        } finally {
+            one.shutdown(); four.shutdown();
+        }
+    }
+
+    private static void assertConnected(HexBoard b, String where) {
+        assertTrue(HexSolver.solve(b, "BFS", null, false).found(), where + ": end unreachable");
+        assertEquals(1, MazeAnalyzer.analyze(b).components, where + ": open cells split");
+    }
+}
@@ -0,0 +1,88 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Rute multi-waypoint harus mengunjungi semua waypoint dengan biaya termurah atas semua urutan. */
+class WaypointPlannerTest {
+
+    private static final int SEEDS = 12;
+
+    @Test
+    void exactOrderIsOptimalOverAllOrders() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            HexBoard b = HexGenerator.generate(45, 45, seed);
+            Random rand = new Random(seed);
+            int[] waypoints = distinctOpenCells(b, 1 + seed % 6, rand);
+            SolveResult res = WaypointPlanner.plan(b, b.start, waypoints, b.end);
+            int expected = bruteForceCost(b, b.start, waypoints, b.end);
+            assertEquals(expected, Reference.cost(res), "seed " + seed + " with " + waypoints.length + " waypoints");
+            if (res.found()) assertValidRoute(b, res, waypoints);
+        }
+    }
+
+    @Test
+    void heuristicWaypointOrderStillVisitsEveryWaypoint() {
+        HexBoard b = HexGenerator.generate(80, 80, 7);
+        int[] waypoints = distinctOpenCells(b, WaypointPlanner.EXACT_MAX + 8, new Random(7));
+        SolveResult res = WaypointPlanner.plan(b, b.start, waypoints, b.end);
+        assertTrue(res.found());
+        assertValidRoute(b, res, waypoints);
+    }
+
+    // Minimum atas semua urutan waypoint dari biaya leg referensi; sel sambungan dihitung sekali
+    private static int bruteForceCost(HexBoard b, int from, int[] waypoints, int to) {
+        int k = waypoints.length;
+        int[] terminals = new int[k + 2];
+        terminals[0] = from; System.arraycopy(waypoints, 0, terminals, 1, k); terminals[k + 1] = to;
+        int[][] d = new int[k + 2][k + 2];
+        for (int i = 0; i < k + 2; i++) for (int j = 0; j < k + 2; j++) d[i][j] = Reference.dijkstraCost(b, terminals[i], terminals[j]);
+        int[] order = new int[k];
+        for (int i = 0; i < k; i++) order[i] = i + 1;
+        long best = Long.MAX_VALUE;
+        do {
+            long sum = b.cost(from);
+            for (int i = 0, prev = 0; i <= k && sum < Long.MAX_VALUE; i++) {
+                int next = i < k ? order[i] : k + 1;
+                sum = d[prev][next] == Reference.UNREACHABLE ? Long.MAX_VALUE : sum + d[prev][next] - b.cost(terminals[prev]);
+                prev = next;
+            }
+            best = Math.min(best, sum);
+        } while (nextPermutation(order));
+        return best == Long.MAX_VALUE ? Reference.UNREACHABLE : (int) best;
+    }
+
+    private static boolean nextPermutation(int[] a) {
+        int i = a.length - 2;
+        while (i >= 0 && a[i] >= a[i + 1]) i--;
+        if (i < 0) return false;
+        int j = a.length - 1;
+        while (a[j] <= a[i]) j--;
+        int t = a[i]; a[i] = a[j]; a[j] = t;
+        for (int l = i + 1, r = a.length - 1; l < r; l++, r--) { t = a[l]; a[l] = a[r]; a[r] = t; }
+        return true;
+    }
+
+    private static void assertValidRoute(HexBoard b, SolveResult res, int[] waypoints) {
+        Reference.assertValidPath(b, res, b.start, b.end);
+        boolean[] onRoute = new boolean[b.grid.size];
+        for (int id : res.path) onRoute[id] = true;
+        for (int w : waypoints) assertTrue(onRoute[w], "waypoint " + w + " not visited");
+    }
+
+    private static int[] distinctOpenCells(HexBoard b, int count, Random rand) {
+        int[] cells = new int[count];
+        boolean[] used = new boolean[b.grid.size];
+        used[b.start] = used[b.end] = true;
+        for (int i = 0; i < count; i++) {
+            int id;
+            do id = Reference.randomOpenCell(b, rand); while (used[id]);
+            used[id] = true;
+            cells[i] = id;
+        }
+        return cells;
+    }
+}